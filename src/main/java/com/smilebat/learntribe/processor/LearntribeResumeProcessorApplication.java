@@ -8,6 +8,7 @@ import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import springfox.documentation.swagger2.annotations.EnableSwagger2;
 
 /**
@@ -23,10 +24,18 @@ import springfox.documentation.swagger2.annotations.EnableSwagger2;
     basePackages = {"com.smilebat.learntribe.learntribeclients", "com.smilebat.learntribe"})
 @EnableFeignClients(basePackages = "com.smilebat.learntribe.learntribeclients")
 @EnableJpaRepositories(
-    basePackages = {"com.smilebat.learntribe.dataaccess", "com.smilebat.learntribe.dataaccess.jpa"})
-@EntityScan("com.smilebat.learntribe.dataaccess.jpa")
+    basePackages = {
+      "com.smilebat.learntribe.dataaccess",
+      "com.smilebat.learntribe.dataaccess.jpa",
+      "com.smilebat.learntribe.processor.dataaccess"
+    })
+@EntityScan({
+  "com.smilebat.learntribe.dataaccess.jpa",
+  "com.smilebat.learntribe.processor.dataaccess.jpa"
+})
 @EnableSwagger2
 @EnableJpaAuditing
+@EnableScheduling
 public class LearntribeResumeProcessorApplication {
 
   /**
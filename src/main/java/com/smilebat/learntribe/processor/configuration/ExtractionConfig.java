@@ -0,0 +1,37 @@
+package com.smilebat.learntribe.processor.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Configuration of the resume text extraction.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@Configuration
+public class ExtractionConfig {
+
+  /**
+   * Bounded pool parsing the uploaded resumes off the request threads.
+   *
+   * @param threads the number of concurrent extractions.
+   * @param queueCapacity the number of extractions waiting for a thread.
+   * @return the {@link ThreadPoolTaskExecutor}.
+   */
+  @Bean
+  public ThreadPoolTaskExecutor textExtractionExecutor(
+      @Value("${resume.extraction.threads:2}") int threads,
+      @Value("${resume.extraction.queue-capacity:1000}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setThreadNamePrefix("text-extraction-");
+    executor.setCorePoolSize(threads);
+    executor.setMaxPoolSize(threads);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setWaitForTasksToCompleteOnShutdown(false);
+    return executor;
+  }
+}
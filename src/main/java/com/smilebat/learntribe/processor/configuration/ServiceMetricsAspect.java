@@ -0,0 +1,66 @@
+package com.smilebat.learntribe.processor.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every public method of the resume services as {@code resume.service}, tagged with the
+ * class, the method and the exception thrown if any.
+ *
+ * <p>The aspect wraps the transaction interceptor, so the timings include the commit. Methods
+ * returning a lazy {@link java.util.stream.Stream} are timed until the stream is returned only.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+  private static final String METRIC = "resume.service";
+
+  private final MeterRegistry registry;
+
+  /**
+   * Times a service call.
+   *
+   * @param joinPoint the {@link ProceedingJoinPoint}.
+   * @return the result of the call.
+   * @throws Throwable the failure of the call.
+   */
+  @Around(
+      "execution(public * com.smilebat.learntribe.processor.services.ResumeBuilderService.*(..))"
+          + " || execution(public * com.smilebat.learntribe.processor.services"
+          + ".FileStorageService.*(..))"
+          + " || execution(public * com.smilebat.learntribe.processor.services.search"
+          + ".ResumeSearchService.*(..))")
+  public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+    final Timer.Sample sample = Timer.start(registry);
+    String exception = "none";
+    try {
+      return joinPoint.proceed();
+    } catch (Throwable e) {
+      exception = e.getClass().getSimpleName();
+      throw e;
+    } finally {
+      sample.stop(
+          Timer.builder(METRIC)
+              .description("Resume service calls")
+              .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+              .tag("method", joinPoint.getSignature().getName())
+              .tag("exception", exception)
+              .publishPercentileHistogram()
+              .register(registry));
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package com.smilebat.learntribe.processor.configuration;
+
+import com.smilebat.learntribe.processor.services.summaries.PersonalSummaryCache;
+import com.smilebat.learntribe.processor.services.summaries.SummaryGenerator;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Configuration of the personal summary generation.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@Configuration
+public class SummaryConfig {
+
+  /**
+   * Bounded pool running the summary generations, so slow generations cannot take every thread.
+   *
+   * @param threads the number of concurrent generations.
+   * @param queueCapacity the number of generations waiting for a thread.
+   * @return the {@link ThreadPoolTaskExecutor}.
+   */
+  @Bean
+  public ThreadPoolTaskExecutor summaryGenerationExecutor(
+      @Value("${resume.summaries.generation.threads:8}") int threads,
+      @Value("${resume.summaries.generation.queue-capacity:100}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setThreadNamePrefix("summary-generation-");
+    executor.setCorePoolSize(threads);
+    executor.setMaxPoolSize(threads);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setWaitForTasksToCompleteOnShutdown(false);
+    return executor;
+  }
+
+  /**
+   * Cache of generated personal summaries.
+   *
+   * @param generator the {@link SummaryGenerator}.
+   * @param executor the generation executor.
+   * @param maximumSize the maximum number of cached prompts.
+   * @param timeToLive the time after which a prompt is generated again.
+   * @param summariesPerPrompt the number of summaries generated per prompt.
+   * @param timeout the maximum time a request waits for a generation.
+   * @return the {@link PersonalSummaryCache}.
+   */
+  @Bean
+  public PersonalSummaryCache personalSummaryCache(
+      SummaryGenerator generator,
+      @Qualifier("summaryGenerationExecutor") ThreadPoolTaskExecutor executor,
+      @Value("${resume.summaries.generation.cache.max-size:10000}") long maximumSize,
+      @Value("${resume.summaries.generation.cache.ttl:PT24H}") Duration timeToLive,
+      @Value("${resume.summaries.generation.per-prompt:10}") int summariesPerPrompt,
+      @Value("${resume.summaries.generation.timeout:PT30S}") Duration timeout) {
+    return new PersonalSummaryCache(
+        generator, executor, maximumSize, timeToLive, summariesPerPrompt, timeout);
+  }
+}
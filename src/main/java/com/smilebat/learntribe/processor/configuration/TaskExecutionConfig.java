@@ -0,0 +1,40 @@
+package com.smilebat.learntribe.processor.configuration;
+
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Configuration of the application task executor.
+ *
+ * <p>Boot only auto configures its executor when no other {@code Executor} bean exists, and the
+ * dedicated extraction and generation pools are such beans. It is therefore declared here, so MVC
+ * async requests such as the streamed bulk downloads run on a bounded pool sized by {@code
+ * spring.task.execution.*} instead of a new thread per request.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@Configuration
+public class TaskExecutionConfig {
+
+  /**
+   * Bounded pool for MVC async request processing and {@code @Async} methods.
+   *
+   * @param builder the {@link TaskExecutorBuilder} bound to {@code spring.task.execution.*}.
+   * @return the {@link ThreadPoolTaskExecutor}.
+   */
+  @Primary
+  @Bean(
+      name = {
+        TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+        "taskExecutor"
+      })
+  public ThreadPoolTaskExecutor applicationTaskExecutor(TaskExecutorBuilder builder) {
+    return builder.build();
+  }
+}
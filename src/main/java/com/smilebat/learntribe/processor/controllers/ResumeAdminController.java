@@ -0,0 +1,118 @@
+package com.smilebat.learntribe.processor.controllers;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smilebat.learntribe.processor.dataaccess.FileMetadata;
+import com.smilebat.learntribe.processor.services.FileStorageService;
+import com.smilebat.learntribe.processor.services.search.ResumeSearchService;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Administrative bulk endpoints over the uploaded resumes.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat.
+ *
+ * @author Pai,Sai Nandan.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/resume/admin")
+@RequiredArgsConstructor
+@PreAuthorize("hasAuthority('SCOPE_admin')")
+public class ResumeAdminController {
+
+  private static final MediaType APPLICATION_NDJSON = MediaType.valueOf("application/x-ndjson");
+
+  private final FileStorageService storageService;
+
+  private final ResumeSearchService searchService;
+
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Exports the metadata of all uploaded resumes as newline delimited json.
+   *
+   * <p>Rows are read through a database cursor and written as they arrive, so the export runs in
+   * constant memory and is throttled by the client reading the response.
+   *
+   * @return the {@link ResponseEntity}.
+   */
+  @GetMapping(value = "/files")
+  @ApiOperation(value = "Exports metadata of all uploaded resumes", notes = "Export")
+  @ApiResponses(
+      value = {
+        @ApiResponse(code = 200, message = "Successfully exported"),
+        @ApiResponse(code = 401, message = SCConstants.UN_AUTHORIZED),
+        @ApiResponse(code = 403, message = SCConstants.FORBIDDEN),
+      })
+  public ResponseEntity<StreamingResponseBody> exportFiles() {
+    StreamingResponseBody body =
+        out -> {
+          try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.setRootValueSeparator(null);
+            storageService.forEachFile(
+                file -> {
+                  try {
+                    generator.writeObject(toLine(file));
+                    generator.writeRaw('\n');
+                  } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                  }
+                });
+          }
+        };
+    return ResponseEntity.status(HttpStatus.OK).contentType(APPLICATION_NDJSON).body(body);
+  }
+
+  /**
+   * Rebuilds the resume search index in the background.
+   *
+   * @return the {@link ResponseEntity}, 202 once started or 409 when a rebuild is running.
+   */
+  @PostMapping(value = "/search/index")
+  @ApiOperation(value = "Rebuilds the resume search index", notes = "Mass indexing")
+  @ApiResponses(
+      value = {
+        @ApiResponse(code = 202, message = "Rebuild started"),
+        @ApiResponse(code = 401, message = SCConstants.UN_AUTHORIZED),
+        @ApiResponse(code = 403, message = SCConstants.FORBIDDEN),
+        @ApiResponse(code = 409, message = "Rebuild running already"),
+      })
+  public ResponseEntity<Void> rebuildSearchIndex() {
+    if (!searchService.startMassIndexing()) {
+      return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+    return ResponseEntity.accepted().build();
+  }
+
+  private static Map<String, Object> toLine(FileMetadata file) {
+    Map<String, Object> line = new LinkedHashMap<>();
+    line.put("id", file.getId());
+    line.put("name", file.getName());
+    line.put("type", file.getType());
+    line.put("size", file.getSize());
+    line.put("keycloakId", file.getKeycloakId());
+    line.put("email", file.getEmail());
+    line.put("digest", file.getDigest());
+    line.put("codec", file.getCodec());
+    line.put("updatedAt", file.getUpdatedAt() == null ? null : file.getUpdatedAt().toString());
+    return line;
+  }
+}
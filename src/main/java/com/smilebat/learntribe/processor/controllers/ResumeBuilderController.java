@@ -1,16 +1,25 @@
 package com.smilebat.learntribe.processor.controllers;
 
+import com.smilebat.learntribe.processor.models.SummaryJobResponse;
 import com.smilebat.learntribe.processor.services.ResumeBuilderService;
+import com.smilebat.learntribe.processor.services.summaries.SummaryJob;
+import com.smilebat.learntribe.processor.services.summaries.SummaryJobService;
 import com.smilebat.learntribe.resume.ResumeBuilderRequest;
 import com.smilebat.learntribe.resume.response.ResumeBuilderResponse;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
+import java.net.URI;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -23,6 +32,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * Resume Builder Controller.
@@ -38,15 +48,22 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class ResumeBuilderController {
 
+  private static final String RETRY_AFTER_SECONDS = "5";
+
   private final ResumeBuilderService service;
 
+  private final SummaryJobService summaryJobService;
+
+  @Value("${resume.summaries.jobs.sse-timeout-millis:120000}")
+  private long sseTimeout;
+
   /**
    * Evaluates resume summaries.
    *
    * @param keyCloakId the IAM id.
    * @param pageNo the page number.
    * @param pageSize the page size.
-   * @return the {@link ResponseEntity}.
+   * @return the {@link ResponseEntity}, completed once the summaries are generated.
    */
   @GetMapping(value = "/build/about")
   @ResponseBody
@@ -64,12 +81,95 @@ public class ResumeBuilderController {
         @ApiResponse(code = 404, message = SCConstants.URL_NOT_FOUND),
         @ApiResponse(code = 422, message = SCConstants.INVALID_DATA),
       })
-  public ResponseEntity<?> evaluatePersonalSummaries(
+  public CompletableFuture<ResponseEntity<Collection<String>>> evaluatePersonalSummaries(
       @AuthenticationPrincipal(expression = SCConstants.SUBJECT) String keyCloakId,
       @RequestParam(value = "page") int pageNo,
       @RequestParam(value = "limit") int pageSize) {
-    // Collection<String> summaries = service.getPersonalSummaries(keyCloakId, pageNo);
-    return ResponseEntity.status(HttpStatus.OK).build();
+    return service
+        .getPersonalSummaries(keyCloakId, pageNo, pageSize)
+        .thenApply(summaries -> ResponseEntity.status(HttpStatus.OK).body(summaries));
+  }
+
+  /**
+   * Submits an asynchronous generation of personal summaries.
+   *
+   * @param keyCloakId the IAM id.
+   * @return the {@link ResponseEntity} with the job, or 503 when generations are saturated.
+   */
+  @PostMapping(value = "/build/about/jobs")
+  @ResponseBody
+  @ApiOperation(value = "Submits generation of summaries based on skill and current role")
+  @ApiResponses(
+      value = {
+        @ApiResponse(code = 202, message = "Accepted", response = SummaryJobResponse.class),
+        @ApiResponse(code = 401, message = SCConstants.UN_AUTHORIZED),
+        @ApiResponse(code = 403, message = SCConstants.FORBIDDEN),
+        @ApiResponse(code = 503, message = "Generations saturated, retry later"),
+      })
+  public ResponseEntity<?> submitPersonalSummaries(
+      @AuthenticationPrincipal(expression = SCConstants.SUBJECT) String keyCloakId) {
+    final SummaryJob job;
+    try {
+      job = service.submitPersonalSummaries(keyCloakId);
+    } catch (RejectedExecutionException e) {
+      return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+          .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+          .build();
+    }
+    return ResponseEntity.accepted()
+        .location(URI.create("/api/v1/resume/build/about/jobs/" + job.getId()))
+        .body(job.toResponse());
+  }
+
+  /**
+   * Polls an asynchronous generation of personal summaries.
+   *
+   * @param keyCloakId the IAM id.
+   * @param jobId the job id.
+   * @return the {@link ResponseEntity} with the job.
+   */
+  @GetMapping(value = "/build/about/jobs/{jobId}")
+  @ResponseBody
+  @ApiOperation(value = "Retrieves a generation of summaries")
+  @ApiResponses(
+      value = {
+        @ApiResponse(code = 200, message = "Success", response = SummaryJobResponse.class),
+        @ApiResponse(code = 401, message = SCConstants.UN_AUTHORIZED),
+        @ApiResponse(code = 403, message = SCConstants.FORBIDDEN),
+        @ApiResponse(code = 404, message = SCConstants.URL_NOT_FOUND),
+      })
+  public ResponseEntity<?> fetchPersonalSummaries(
+      @AuthenticationPrincipal(expression = SCConstants.SUBJECT) String keyCloakId,
+      @PathVariable(value = "jobId") String jobId) {
+    return summaryJobService
+        .find(keyCloakId, jobId)
+        .<ResponseEntity<?>>map(job -> ResponseEntity.ok(job.toResponse()))
+        .orElseGet(() -> ResponseEntity.notFound().build());
+  }
+
+  /**
+   * Pushes the result of an asynchronous generation of personal summaries once done.
+   *
+   * @param keyCloakId the IAM id.
+   * @param jobId the job id.
+   * @return the {@link ResponseEntity} with the {@link SseEmitter}.
+   */
+  @GetMapping(
+      value = "/build/about/jobs/{jobId}/events",
+      produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  @ApiOperation(value = "Streams the result of a generation of summaries")
+  public ResponseEntity<SseEmitter> streamPersonalSummaries(
+      @AuthenticationPrincipal(expression = SCConstants.SUBJECT) String keyCloakId,
+      @PathVariable(value = "jobId") String jobId) {
+    return summaryJobService
+        .find(keyCloakId, jobId)
+        .map(
+            job -> {
+              SseEmitter emitter = new SseEmitter(sseTimeout);
+              job.subscribe(emitter);
+              return ResponseEntity.ok(emitter);
+            })
+        .orElseGet(() -> ResponseEntity.notFound().build());
   }
 
   /**
@@ -1,27 +1,37 @@
 package com.smilebat.learntribe.processor.controllers;
 
-import com.smilebat.learntribe.dataaccess.jpa.entity.FileDB;
+import com.smilebat.learntribe.processor.dataaccess.FileMetadata;
+import com.smilebat.learntribe.processor.models.BulkDownloadRequest;
 import com.smilebat.learntribe.processor.services.FileStorageService;
+import com.smilebat.learntribe.processor.services.storage.ContentCodec;
 import io.micrometer.core.instrument.util.StringUtils;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * Resume Controller.
@@ -42,9 +52,13 @@ public class ResumeController {
   /**
    * Downloads User Resumes.
    *
+   * <p>Supports byte ranges and conditional requests on the entity tag of the stored file.
+   *
    * @param keyCloakId the IAM id.
    * @param email the email
+   * @param webRequest the {@link WebRequest}.
    * @return the {@link ResponseEntity}.
+   * @throws IOException on error.
    */
   @GetMapping(value = "/download")
   @ApiResponses(
@@ -54,27 +68,107 @@ public class ResumeController {
             message = "Successfully retrieved",
             response = String.class,
             responseContainer = "List"),
+        @ApiResponse(code = 206, message = "Partial Content"),
+        @ApiResponse(code = 304, message = "Not Modified"),
         @ApiResponse(code = 400, message = SCConstants.BAD_REQUEST),
         @ApiResponse(code = 401, message = SCConstants.UN_AUTHORIZED),
         @ApiResponse(code = 403, message = SCConstants.FORBIDDEN),
         @ApiResponse(code = 404, message = SCConstants.URL_NOT_FOUND),
         @ApiResponse(code = 422, message = SCConstants.INVALID_DATA),
+        @ApiResponse(code = 429, message = "Too many transfers waiting, retry later"),
+        @ApiResponse(code = 503, message = "Transfers saturated, retry later"),
       })
   @ApiOperation(value = "Downloads User Resumes", notes = "Download")
   public ResponseEntity<Resource> fetchResume(
       @AuthenticationPrincipal(expression = SCConstants.SUBJECT) String keyCloakId,
-      @RequestParam(required = false, value = "email") String email) {
-    FileDB file =
+      @RequestParam(required = false, value = "email") String email,
+      WebRequest webRequest)
+      throws IOException {
+    FileMetadata file =
         StringUtils.isEmpty(email)
             ? storageService.getFile(keyCloakId)
             : storageService.getFileByEmail(email);
-    ByteArrayResource resource = new ByteArrayResource(file.getData());
+    // The stored coding is passed through to clients accepting it, ranges then address the
+    // encoded bytes, so they are served from the file without decoding.
+    final ContentCodec codec = storageService.getCodec(file);
+    final boolean encoded =
+        codec != ContentCodec.IDENTITY
+            && codec.isAcceptedBy(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+    final String eTag = storageService.getETag(file, encoded ? codec : ContentCodec.IDENTITY);
+    if (webRequest.checkNotModified(eTag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(eTag)
+          .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+          .build();
+    }
+    if (encoded) {
+      Optional<Resource> resource = storageService.loadEncodedResource(file, codec);
+      if (resource.isPresent()) {
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+            .header(HttpHeaders.CONTENT_ENCODING, codec.getContentEncoding())
+            .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+            .contentType(MediaType.APPLICATION_PDF)
+            .body(resource.get());
+      }
+    }
+    Resource resource = storageService.loadAsResource(file);
+    if (codec != ContentCodec.IDENTITY) {
+      // A decoded stream can only be skipped from the start, so no ranges are offered on it.
+      return ResponseEntity.ok()
+          .eTag(storageService.getETag(file))
+          .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+          .header(HttpHeaders.ACCEPT_RANGES, "none")
+          .contentType(MediaType.APPLICATION_PDF)
+          .contentLength(resource.contentLength())
+          .body(new InputStreamResource(resource.getInputStream()));
+    }
+    // Content-Length is left to the converter so that ranged responses report the region size.
     return ResponseEntity.ok()
-        .contentLength(file.getSize())
+        .eTag(storageService.getETag(file))
+        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+        .header(HttpHeaders.ACCEPT_RANGES, "bytes")
         .contentType(MediaType.APPLICATION_PDF)
         .body(resource);
   }
 
+  /**
+   * Downloads the resumes of several applicants as a single zip archive.
+   *
+   * <p>All metadata is resolved upfront, the archive is then streamed one resume at a time.
+   *
+   * @param keyCloakId the IAM id.
+   * @param request the {@link BulkDownloadRequest}.
+   * @return the {@link ResponseEntity}.
+   */
+  @PostMapping(value = "/download/bulk")
+  @ApiOperation(value = "Downloads resumes of several applicants as zip", notes = "Bulk download")
+  @ApiResponses(
+      value = {
+        @ApiResponse(code = 200, message = "Successfully retrieved"),
+        @ApiResponse(code = 400, message = SCConstants.BAD_REQUEST),
+        @ApiResponse(code = 401, message = SCConstants.UN_AUTHORIZED),
+        @ApiResponse(code = 403, message = SCConstants.FORBIDDEN),
+        @ApiResponse(code = 404, message = SCConstants.URL_NOT_FOUND),
+        @ApiResponse(code = 422, message = SCConstants.INVALID_DATA),
+        @ApiResponse(code = 429, message = "Too many transfers waiting, retry later"),
+        @ApiResponse(code = 503, message = "Transfers saturated, retry later"),
+      })
+  public ResponseEntity<StreamingResponseBody> fetchResumes(
+      @AuthenticationPrincipal(expression = SCConstants.SUBJECT) String keyCloakId,
+      @RequestBody BulkDownloadRequest request) {
+    final List<FileMetadata> files =
+        storageService.getFiles(request.getEmails(), request.getKeyCloakIds());
+    StreamingResponseBody body = out -> storageService.writeZip(files, out);
+    return ResponseEntity.ok()
+        .header(
+            HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename("resumes.zip").build().toString())
+        .contentType(MediaType.valueOf("application/zip"))
+        .body(body);
+  }
+
   /**
    * Uploads User Resumes.
    *
@@ -97,6 +191,8 @@ public class ResumeController {
         @ApiResponse(code = 403, message = SCConstants.FORBIDDEN),
         @ApiResponse(code = 404, message = SCConstants.URL_NOT_FOUND),
         @ApiResponse(code = 422, message = SCConstants.INVALID_DATA),
+        @ApiResponse(code = 429, message = "Too many transfers waiting, retry later"),
+        @ApiResponse(code = 503, message = "Transfers saturated, retry later"),
       })
   public ResponseEntity<?> uploadResume(
       @AuthenticationPrincipal(expression = SCConstants.SUBJECT) String keyCloakId,
@@ -0,0 +1,100 @@
+package com.smilebat.learntribe.processor.controllers;
+
+import com.smilebat.learntribe.processor.models.ResumeSearchResponse;
+import com.smilebat.learntribe.processor.models.SkillMatchResponse;
+import com.smilebat.learntribe.processor.services.search.ResumeSearchService;
+import com.smilebat.learntribe.processor.services.skills.SkillIndex;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Full text search over the resumes of all candidates.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat.
+ *
+ * @author Pai,Sai Nandan.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/resume")
+@RequiredArgsConstructor
+public class ResumeSearchController {
+
+  private static final String RETRY_AFTER_SECONDS = "30";
+
+  private final ResumeSearchService searchService;
+
+  private final SkillIndex skillIndex;
+
+  /**
+   * Searches resumes.
+   *
+   * @param query the simple query string.
+   * @param pageNo the page number.
+   * @param pageSize the page size.
+   * @return the {@link ResponseEntity} with the {@link ResumeSearchResponse}.
+   */
+  @GetMapping(value = "/search")
+  @ResponseBody
+  @ApiOperation(
+      value = "Searches resumes",
+      notes = "Simple query string over resumes, experiences and uploads, with highlights")
+  @ApiResponses(
+      value = {
+        @ApiResponse(code = 200, message = "Success", response = ResumeSearchResponse.class),
+        @ApiResponse(code = 400, message = SCConstants.BAD_REQUEST),
+        @ApiResponse(code = 401, message = SCConstants.UN_AUTHORIZED),
+        @ApiResponse(code = 403, message = SCConstants.FORBIDDEN),
+        @ApiResponse(code = 422, message = SCConstants.INVALID_DATA),
+      })
+  public ResponseEntity<ResumeSearchResponse> search(
+      @RequestParam(value = "q") String query,
+      @RequestParam(value = "page", defaultValue = "0") int pageNo,
+      @RequestParam(value = "limit", defaultValue = "20") int pageSize) {
+    return ResponseEntity.status(HttpStatus.OK)
+        .body(searchService.search(query, pageNo, pageSize));
+  }
+
+  /**
+   * Filters resumes by a boolean combination of skills.
+   *
+   * @param query the skill query, e.g. {@code Java AND Kafka AND NOT PHP}.
+   * @param limit the maximum number of resume ids returned.
+   * @return the {@link ResponseEntity} with the {@link SkillMatchResponse}, or 503 while the
+   *     skill index is built.
+   */
+  @GetMapping(value = "/skills/match")
+  @ResponseBody
+  @ApiOperation(
+      value = "Filters resumes by skills",
+      notes = "AND, OR, NOT and parentheses over skills, returns the count and the latest ids")
+  @ApiResponses(
+      value = {
+        @ApiResponse(code = 200, message = "Success", response = SkillMatchResponse.class),
+        @ApiResponse(code = 401, message = SCConstants.UN_AUTHORIZED),
+        @ApiResponse(code = 403, message = SCConstants.FORBIDDEN),
+        @ApiResponse(code = 422, message = SCConstants.INVALID_DATA),
+        @ApiResponse(code = 503, message = "Skill index not built yet, retry later"),
+      })
+  public ResponseEntity<SkillMatchResponse> matchSkills(
+      @RequestParam(value = "q") String query,
+      @RequestParam(value = "limit", defaultValue = "100") int limit) {
+    if (!skillIndex.isReady()) {
+      return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+          .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+          .build();
+    }
+    return ResponseEntity.status(HttpStatus.OK).body(skillIndex.match(query, limit));
+  }
+}
@@ -0,0 +1,84 @@
+package com.smilebat.learntribe.processor.dataaccess;
+
+import com.smilebat.learntribe.dataaccess.jpa.entity.ResumeEducationExperience;
+import com.smilebat.learntribe.dataaccess.jpa.entity.ResumeSideProject;
+import com.smilebat.learntribe.dataaccess.jpa.entity.ResumeWorkExperience;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.enhanced.DatabaseStructure;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves the sequences of the resume experience ids past the ids already in use.
+ *
+ * <p>The experiences used to be inserted with database generated ids, the sequence which replaced
+ * them in {@code META-INF/orm.xml} must not hand out any of those again. Tables, id columns and
+ * sequences are read from the mapping. A pooled optimizer hands out the increment below the value
+ * it reads, so a sequence is moved an increment past the highest id of its tables.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@SuppressFBWarnings(justification = "Table and sequence names taken from the mapping")
+public class ExperienceSequenceInitializer {
+
+  private static final List<Class<?>> EXPERIENCES =
+      List.of(ResumeWorkExperience.class, ResumeEducationExperience.class, ResumeSideProject.class);
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /** The schema is up to date once the {@link EntityManagerFactory} exists. */
+  private final EntityManagerFactory entityManagerFactory;
+
+  /** Restarts each sequence past the highest id of its experiences, if it is not already. */
+  @PostConstruct
+  public void alignSequence() {
+    final SessionFactoryImplementor sessionFactory =
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    final Map<String, Long> required = new LinkedHashMap<>();
+    for (Class<?> experience : EXPERIENCES) {
+      final AbstractEntityPersister persister =
+          (AbstractEntityPersister) sessionFactory.getMetamodel().entityPersister(experience);
+      final IdentifierGenerator generator = persister.getIdentifierGenerator();
+      if (!(generator instanceof SequenceStyleGenerator)) {
+        log.warn("Ids of {} are not taken from a sequence", experience.getSimpleName());
+        continue;
+      }
+      final DatabaseStructure sequence =
+          ((SequenceStyleGenerator) generator).getDatabaseStructure();
+      final Long used =
+          jdbcTemplate.queryForObject(
+              "SELECT COALESCE(MAX(" + persister.getIdentifierColumnNames()[0] + "), 0) FROM "
+                  + persister.getTableName(),
+              Long.class);
+      required.merge(
+          sequence.getName(), (used == null ? 0 : used) + sequence.getIncrementSize(), Math::max);
+    }
+    final Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+    required.forEach(
+        (sequence, next) -> {
+          Long current =
+              jdbcTemplate.queryForObject(dialect.getSequenceNextValString(sequence), Long.class);
+          if (current == null || current < next) {
+            log.info("Restarting {} with {}", sequence, next);
+            jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + next);
+          }
+        });
+  }
+}
@@ -0,0 +1,83 @@
+package com.smilebat.learntribe.processor.dataaccess;
+
+import java.time.Instant;
+
+/**
+ * Metadata only projection of an uploaded resume, never carrying the resume bytes.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+public interface FileMetadata {
+
+  /**
+   * Id of the {@code FileDB} row.
+   *
+   * @return the id.
+   */
+  String getId();
+
+  /**
+   * Original file name.
+   *
+   * @return the name.
+   */
+  String getName();
+
+  /**
+   * Content type of the upload.
+   *
+   * @return the content type.
+   */
+  String getType();
+
+  /**
+   * Size of the upload in bytes.
+   *
+   * @return the size.
+   */
+  Long getSize();
+
+  /**
+   * IAM id of the owner.
+   *
+   * @return the IAM id.
+   */
+  String getKeycloakId();
+
+  /**
+   * Email of the owner.
+   *
+   * @return the email.
+   */
+  String getEmail();
+
+  /**
+   * Content digest, null for files uploaded before the content store existed.
+   *
+   * @return the digest.
+   */
+  String getDigest();
+
+  /**
+   * Time of the last upload, null for files uploaded before the content store existed.
+   *
+   * @return the {@link Instant}.
+   */
+  Instant getUpdatedAt();
+
+  /**
+   * Number of pages of the extracted text, null until the text extraction finished.
+   *
+   * @return the page count.
+   */
+  Integer getPages();
+
+  /**
+   * Content coding of the stored bytes, null for files not yet (re)encoded by the content store.
+   *
+   * @return the content coding.
+   */
+  String getCodec();
+}
@@ -0,0 +1,134 @@
+package com.smilebat.learntribe.processor.dataaccess;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import com.smilebat.learntribe.dataaccess.jpa.entity.FileDB;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repository projecting {@link FileDB} rows to {@link FileMetadata}.
+ *
+ * <p>None of the metadata queries select the data column, nor does the update of an existing
+ * row. The streaming queries are cursor backed and must be consumed and closed inside a
+ * transaction.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+public interface FileMetadataRepository extends Repository<FileDB, String> {
+
+  String SELECT_METADATA =
+      "select f.id as id, f.name as name, f.type as type, f.size as size,"
+          + " f.keycloakId as keycloakId, f.email as email,"
+          + " c.digest as digest, c.codec as codec, c.updatedAt as updatedAt, t.pages as pages"
+          + " from FileDB f left join ResumeContent c on c.keycloakId = f.keycloakId"
+          + " left join ResumeText t on t.digest = c.digest";
+
+  /**
+   * Finds the metadata of a users upload.
+   *
+   * @param keycloakId the IAM id.
+   * @return the {@link FileMetadata}.
+   */
+  @Query(SELECT_METADATA + " where f.keycloakId = :keycloakId")
+  Optional<FileMetadata> findByKeycloakId(@Param("keycloakId") String keycloakId);
+
+  /**
+   * Finds the metadata of a users upload by email.
+   *
+   * @param email the email.
+   * @return the {@link FileMetadata}.
+   */
+  @Query(SELECT_METADATA + " where f.email = :email")
+  Optional<FileMetadata> findByEmail(@Param("email") String email);
+
+  /**
+   * Finds the metadata of the uploads of several users.
+   *
+   * @param keycloakIds the IAM ids, must not be empty.
+   * @return the List of {@link FileMetadata}.
+   */
+  @Query(SELECT_METADATA + " where f.keycloakId in :keycloakIds")
+  List<FileMetadata> findByKeycloakIdIn(@Param("keycloakIds") Collection<String> keycloakIds);
+
+  /**
+   * Finds the metadata of the uploads of several users by email.
+   *
+   * @param emails the emails, must not be empty.
+   * @return the List of {@link FileMetadata}.
+   */
+  @Query(SELECT_METADATA + " where f.email in :emails")
+  List<FileMetadata> findByEmailIn(@Param("emails") Collection<String> emails);
+
+  /**
+   * Streams the metadata of all uploads through a database cursor.
+   *
+   * @return the {@link Stream} of {@link FileMetadata}.
+   */
+  @Query(SELECT_METADATA + " order by f.keycloakId")
+  @QueryHints({
+    @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+    @QueryHint(name = HINT_READONLY, value = "true")
+  })
+  Stream<FileMetadata> streamAllMetadata();
+
+  /**
+   * Streams all uploads including their bytes through a database cursor.
+   *
+   * @return the {@link Stream} of {@link FileDB}.
+   */
+  @Query("select f from FileDB f order by f.keycloakId")
+  @QueryHints({
+    @QueryHint(name = HINT_FETCH_SIZE, value = "50"),
+    @QueryHint(name = HINT_READONLY, value = "true")
+  })
+  Stream<FileDB> streamAllFiles();
+
+  /**
+   * Finds the users whose upload predates the content store and still lives in the data column.
+   *
+   * @param pageable the {@link Pageable} limiting the users.
+   * @return the IAM ids.
+   */
+  @Query(
+      "select f.keycloakId from FileDB f where f.data is not null and f.size > 0 and not exists"
+          + " (select c.keycloakId from ResumeContent c where c.keycloakId = f.keycloakId)")
+  List<String> findKeycloakIdsWithoutContent(Pageable pageable);
+
+  /**
+   * Rewrites the metadata of an upload and replaces its legacy data, without loading the row.
+   *
+   * @param id the id of the {@code FileDB} row.
+   * @param name the file name.
+   * @param type the content type.
+   * @param size the size in bytes.
+   * @param email the email of the owner.
+   * @param data the legacy data.
+   * @return the number of updated rows.
+   */
+  @Modifying
+  @Transactional
+  @Query(
+      "update FileDB f set f.name = :name, f.type = :type, f.size = :size, f.email = :email,"
+          + " f.data = :data where f.id = :id")
+  int updateFile(
+      @Param("id") String id,
+      @Param("name") String name,
+      @Param("type") String type,
+      @Param("size") Long size,
+      @Param("email") String email,
+      @Param("data") byte[] data);
+}
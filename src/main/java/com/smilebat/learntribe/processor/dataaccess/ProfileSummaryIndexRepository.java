@@ -0,0 +1,38 @@
+package com.smilebat.learntribe.processor.dataaccess;
+
+import com.smilebat.learntribe.dataaccess.jpa.entity.ProfileSummary;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Read only repository scanning {@link ProfileSummary} rows in id order.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+public interface ProfileSummaryIndexRepository extends Repository<ProfileSummary, Long> {
+
+  /**
+   * Finds summaries with an id greater than the given one, in id order.
+   *
+   * @param id the last id already seen.
+   * @param pageable the {@link Pageable} limiting the batch size.
+   * @return the List of {@link ProfileSummary}.
+   */
+  @Query("select p from ProfileSummary p where p.id > :id order by p.id")
+  List<ProfileSummary> findAfter(@Param("id") long id, Pageable pageable);
+
+  /**
+   * Finds the summaries of several roles, in id order.
+   *
+   * @param roles the roles, must not be empty.
+   * @return the List of {@link ProfileSummary}.
+   */
+  @Query("select p from ProfileSummary p where p.role in :roles order by p.id")
+  List<ProfileSummary> findByRoleIn(@Param("roles") Collection<String> roles);
+}
@@ -0,0 +1,47 @@
+package com.smilebat.learntribe.processor.dataaccess;
+
+import com.smilebat.learntribe.processor.dataaccess.jpa.entity.ReleasedContent;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repository for the released content digests awaiting collection.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@Repository
+public interface ReleasedContentRepository extends JpaRepository<ReleasedContent, Long> {
+
+  /**
+   * Finds the digests released before a point in time.
+   *
+   * @param cutoff the end of the grace period.
+   * @param pageable the {@link Pageable} limiting the digests.
+   * @return the digests.
+   */
+  @Query(
+      "select r.digest from ReleasedContent r where r.releasedAt < :cutoff"
+          + " group by r.digest order by min(r.releasedAt)")
+  List<String> findDigestsReleasedBefore(@Param("cutoff") Instant cutoff, Pageable pageable);
+
+  /**
+   * Forgets the releases of a digest up to a point in time.
+   *
+   * @param digest the content digest.
+   * @param cutoff the end of the grace period.
+   * @return the number of deleted releases.
+   */
+  @Modifying
+  @Transactional
+  @Query("delete from ReleasedContent r where r.digest = :digest and r.releasedAt < :cutoff")
+  int deleteReleasedBefore(@Param("digest") String digest, @Param("cutoff") Instant cutoff);
+}
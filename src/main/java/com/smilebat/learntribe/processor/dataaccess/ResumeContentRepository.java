@@ -0,0 +1,75 @@
+package com.smilebat.learntribe.processor.dataaccess;
+
+import com.smilebat.learntribe.processor.dataaccess.jpa.entity.ResumeContent;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repository for the resume content locations.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@Repository
+public interface ResumeContentRepository extends JpaRepository<ResumeContent, String> {
+
+  /**
+   * Counts the users referencing a content digest.
+   *
+   * @param digest the content digest.
+   * @return the number of references.
+   */
+  long countByDigest(String digest);
+
+  /**
+   * Finds content digests not stored with the coding of their file type: those stored before
+   * content codings existed, and encoded ones whose file type is stored as is.
+   *
+   * @param encodedTypes the lower case content types stored encoded.
+   * @param pageable the {@link Pageable} limiting the digests.
+   * @return the digests.
+   */
+  @Query(
+      "select distinct c.digest from ResumeContent c, FileDB f where f.keycloakId = c.keycloakId"
+          + " and (c.codec is null or (c.codec <> 'identity'"
+          + " and (f.type is null or lower(f.type) not in :encodedTypes)))")
+  List<String> findDigestsToReencode(
+      @Param("encodedTypes") Collection<String> encodedTypes, Pageable pageable);
+
+  /**
+   * Finds the content types of the files referencing a content digest.
+   *
+   * @param digest the content digest.
+   * @return the distinct content types.
+   */
+  @Query(
+      "select distinct f.type from FileDB f, ResumeContent c"
+          + " where f.keycloakId = c.keycloakId and c.digest = :digest")
+  List<String> findTypesByDigest(@Param("digest") String digest);
+
+  /**
+   * Records the content coding of a digest for all users referencing it.
+   *
+   * @param digest the content digest.
+   * @param codec the content coding.
+   * @param storedSize the size of the stored bytes.
+   * @return the number of updated references.
+   */
+  @Modifying
+  @Transactional
+  @Query(
+      "update ResumeContent c set c.codec = :codec, c.storedSize = :storedSize"
+          + " where c.digest = :digest")
+  int updateCodec(
+      @Param("digest") String digest,
+      @Param("codec") String codec,
+      @Param("storedSize") long storedSize);
+}
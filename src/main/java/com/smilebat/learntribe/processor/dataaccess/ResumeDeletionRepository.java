@@ -0,0 +1,76 @@
+package com.smilebat.learntribe.processor.dataaccess;
+
+import com.smilebat.learntribe.dataaccess.jpa.entity.Resume;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Set based deletion of {@link Resume} aggregates, without loading any entity.
+ *
+ * <p>The experiences are deleted through the associations mapped on {@link Resume}, so the
+ * statements follow the mapping of the entities rather than their table layout.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+public interface ResumeDeletionRepository extends Repository<Resume, Long> {
+
+  /**
+   * Finds the owner of a resume.
+   *
+   * @param resumeId the resume id.
+   * @return the IAM id of the owner, empty if the resume does not exist.
+   */
+  @Query("select r.keyCloakId from Resume r where r.id = :resumeId")
+  Optional<String> findKeyCloakIdById(@Param("resumeId") Long resumeId);
+
+  /**
+   * Deletes the work experiences of a resume.
+   *
+   * @param resumeId the resume id.
+   * @return the number of deleted rows.
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      "delete from ResumeWorkExperience e where e in"
+          + " (select c from Resume r join r.workExperiences c where r.id = :resumeId)")
+  int deleteWorkExperiences(@Param("resumeId") Long resumeId);
+
+  /**
+   * Deletes the education experiences of a resume.
+   *
+   * @param resumeId the resume id.
+   * @return the number of deleted rows.
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      "delete from ResumeEducationExperience e where e in"
+          + " (select c from Resume r join r.educationExperiences c where r.id = :resumeId)")
+  int deleteEducationExperiences(@Param("resumeId") Long resumeId);
+
+  /**
+   * Deletes the side projects of a resume.
+   *
+   * @param resumeId the resume id.
+   * @return the number of deleted rows.
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      "delete from ResumeSideProject e where e in"
+          + " (select c from Resume r join r.sideProjects c where r.id = :resumeId)")
+  int deleteSideProjects(@Param("resumeId") Long resumeId);
+
+  /**
+   * Deletes a resume, its experiences must have been deleted before.
+   *
+   * @param resumeId the resume id.
+   * @return the number of deleted rows.
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("delete from Resume r where r.id = :resumeId")
+  int deleteResume(@Param("resumeId") Long resumeId);
+}
@@ -0,0 +1,126 @@
+package com.smilebat.learntribe.processor.dataaccess;
+
+import com.smilebat.learntribe.dataaccess.jpa.entity.Resume;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Read repository fetching {@link Resume} aggregates with an explicit fetch plan.
+ *
+ * <p>Fetch joining all experience collections at once would return the product of their sizes per
+ * resume. Resumes are therefore loaded with their work experiences, and the education experiences
+ * and side projects of all loaded resumes are fetched by one further query each, which initializes
+ * them on the same managed instances.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+public interface ResumeQueryRepository extends Repository<Resume, Long> {
+
+  /**
+   * Finds the resumes of a user together with all their experiences in three statements.
+   *
+   * @param keyCloakId the IAM id.
+   * @return the List of {@link Resume}, experiences initialized.
+   */
+  @Transactional(readOnly = true)
+  default List<Resume> findWithExperiencesByKeyCloakId(String keyCloakId) {
+    return fetchExperiences(findWithWorkExperiencesByKeyCloakId(keyCloakId));
+  }
+
+  /**
+   * Finds resumes by id together with all their experiences in three statements.
+   *
+   * @param ids the resume ids, must not be empty.
+   * @return the List of {@link Resume}, experiences initialized.
+   */
+  @Transactional(readOnly = true)
+  default List<Resume> findWithExperiencesByIdIn(Collection<Long> ids) {
+    return fetchExperiences(findWithWorkExperiencesByIdIn(ids));
+  }
+
+  /**
+   * Finds the resumes of the users referencing an uploaded content, with all their experiences.
+   *
+   * @param digest the content digest.
+   * @return the List of {@link Resume}, experiences initialized.
+   */
+  @Transactional(readOnly = true)
+  default List<Resume> findWithExperiencesByContentDigest(String digest) {
+    return fetchExperiences(findWithWorkExperiencesByContentDigest(digest));
+  }
+
+  /**
+   * Initializes the education experiences and side projects of managed resumes.
+   *
+   * @param resumes the resumes, loaded in the current persistence context.
+   * @return the resumes.
+   */
+  private List<Resume> fetchExperiences(List<Resume> resumes) {
+    if (!resumes.isEmpty()) {
+      final List<Long> ids = resumes.stream().map(Resume::getId).collect(Collectors.toList());
+      fetchEducationExperiences(ids);
+      fetchSideProjects(ids);
+    }
+    return resumes;
+  }
+
+  /**
+   * Finds the resumes of a user with their work experiences.
+   *
+   * @param keyCloakId the IAM id.
+   * @return the List of {@link Resume}.
+   */
+  @EntityGraph(attributePaths = "workExperiences")
+  @Query("select distinct r from Resume r where r.keyCloakId = :keyCloakId")
+  List<Resume> findWithWorkExperiencesByKeyCloakId(@Param("keyCloakId") String keyCloakId);
+
+  /**
+   * Finds resumes by id with their work experiences.
+   *
+   * @param ids the resume ids, must not be empty.
+   * @return the List of {@link Resume}.
+   */
+  @EntityGraph(attributePaths = "workExperiences")
+  @Query("select distinct r from Resume r where r.id in :ids")
+  List<Resume> findWithWorkExperiencesByIdIn(@Param("ids") Collection<Long> ids);
+
+  /**
+   * Finds the resumes of the users referencing an uploaded content with their work experiences.
+   *
+   * @param digest the content digest.
+   * @return the List of {@link Resume}.
+   */
+  @EntityGraph(attributePaths = "workExperiences")
+  @Query(
+      "select distinct r from Resume r where r.keyCloakId in"
+          + " (select c.keycloakId from ResumeContent c where c.digest = :digest)")
+  List<Resume> findWithWorkExperiencesByContentDigest(@Param("digest") String digest);
+
+  /**
+   * Loads the education experiences of resumes.
+   *
+   * @param ids the resume ids, must not be empty.
+   * @return the List of {@link Resume}.
+   */
+  @EntityGraph(attributePaths = "educationExperiences")
+  @Query("select distinct r from Resume r where r.id in :ids")
+  List<Resume> fetchEducationExperiences(@Param("ids") Collection<Long> ids);
+
+  /**
+   * Loads the side projects of resumes.
+   *
+   * @param ids the resume ids, must not be empty.
+   * @return the List of {@link Resume}.
+   */
+  @EntityGraph(attributePaths = "sideProjects")
+  @Query("select distinct r from Resume r where r.id in :ids")
+  List<Resume> fetchSideProjects(@Param("ids") Collection<Long> ids);
+}
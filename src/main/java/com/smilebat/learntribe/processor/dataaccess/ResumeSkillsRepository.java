@@ -0,0 +1,67 @@
+package com.smilebat.learntribe.processor.dataaccess;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import com.smilebat.learntribe.dataaccess.jpa.entity.Resume;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.Repository;
+
+/**
+ * Read only repository streaming the skills of all resumes for the skill index.
+ *
+ * <p>The queries are cursor backed and must be consumed and closed inside a transaction.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+public interface ResumeSkillsRepository extends Repository<Resume, Long> {
+
+  /** Skills of one resume or side project. */
+  interface ResumeSkills {
+
+    /**
+     * Id of the resume.
+     *
+     * @return the resume id.
+     */
+    Long getId();
+
+    /**
+     * Comma separated skills.
+     *
+     * @return the skills.
+     */
+    String getSkills();
+  }
+
+  /**
+   * Streams the skills of all resumes, including resumes without skills.
+   *
+   * @return the {@link Stream} of {@link ResumeSkills}.
+   */
+  @Query("select r.id as id, r.skills as skills from Resume r")
+  @QueryHints({
+    @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+    @QueryHint(name = HINT_READONLY, value = "true")
+  })
+  Stream<ResumeSkills> streamResumeSkills();
+
+  /**
+   * Streams the skills of all side projects, keyed by their resume.
+   *
+   * @return the {@link Stream} of {@link ResumeSkills}.
+   */
+  @Query(
+      "select r.id as id, p.skills as skills from Resume r join r.sideProjects p"
+          + " where p.skills is not null")
+  @QueryHints({
+    @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+    @QueryHint(name = HINT_READONLY, value = "true")
+  })
+  Stream<ResumeSkills> streamSideProjectSkills();
+}
@@ -0,0 +1,77 @@
+package com.smilebat.learntribe.processor.dataaccess;
+
+import com.smilebat.learntribe.processor.dataaccess.jpa.entity.ResumeText;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repository for the extracted resume texts.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@Repository
+public interface ResumeTextRepository extends JpaRepository<ResumeText, String> {
+
+  /** Extracted text of the upload of a user. */
+  interface OwnerText {
+
+    /**
+     * IAM id of the user.
+     *
+     * @return the IAM id.
+     */
+    String getKeycloakId();
+
+    /**
+     * Extracted text.
+     *
+     * @return the text.
+     */
+    String getText();
+  }
+
+  /**
+   * Finds the extracted texts of the uploads of several users.
+   *
+   * @param keycloakIds the IAM ids, must not be empty.
+   * @return the List of {@link OwnerText}, users without text omitted.
+   */
+  @Query(
+      "select c.keycloakId as keycloakId, t.text as text from ResumeContent c, ResumeText t"
+          + " where t.digest = c.digest and t.text is not null and c.keycloakId in :keycloakIds")
+  List<OwnerText> findTextsByKeycloakIdIn(@Param("keycloakIds") Collection<String> keycloakIds);
+
+  /**
+   * Finds referenced content digests without an extraction, e.g. uploads whose job was lost on a
+   * restart.
+   *
+   * @param pageable the {@link Pageable} limiting the digests.
+   * @return the digests.
+   */
+  @Query(
+      "select distinct c.digest from ResumeContent c where not exists"
+          + " (select t.digest from ResumeText t where t.digest = c.digest)")
+  List<String> findDigestsWithoutText(Pageable pageable);
+
+  /**
+   * Deletes the text of a digest in its own transaction, so it can run once the content was
+   * released after a commit.
+   *
+   * @param digest the content digest.
+   * @return the number of deleted texts.
+   */
+  @Modifying
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  @Query("delete from ResumeText t where t.digest = :digest")
+  int deleteByDigest(@Param("digest") String digest);
+}
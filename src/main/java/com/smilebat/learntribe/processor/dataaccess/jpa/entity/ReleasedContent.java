@@ -0,0 +1,43 @@
+package com.smilebat.learntribe.processor.dataaccess.jpa.entity;
+
+import java.time.Instant;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Content digest that lost a reference, or whose upload rolled back, and may have to be removed
+ * from the content store.
+ *
+ * <p>Rows are not unique per digest, so concurrent releases never conflict. They are collected
+ * once a grace period passed, see {@code ContentCollector}.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@Getter
+@Setter
+@Entity
+@Table(
+    name = "released_content",
+    indexes = @Index(name = "released_content_released_at", columnList = "released_at"))
+public class ReleasedContent {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "id", nullable = false, updatable = false)
+  private Long id;
+
+  @Column(name = "digest", nullable = false, updatable = false, length = 64)
+  private String digest;
+
+  @Column(name = "released_at", nullable = false, updatable = false)
+  private Instant releasedAt;
+}
@@ -0,0 +1,54 @@
+package com.smilebat.learntribe.processor.dataaccess.jpa.entity;
+
+import java.time.Instant;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.PrePersist;
+import javax.persistence.PreUpdate;
+import javax.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Reference from an IAM user to the uploaded resume bytes in the content store.
+ *
+ * <p>One row per IAM user, mirroring the one upload per user held in {@code FileDB}. Several
+ * users may reference the same digest.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "resume_content")
+public class ResumeContent {
+
+  @Id
+  @Column(name = "keycloak_id", nullable = false, updatable = false)
+  private String keycloakId;
+
+  @Column(name = "digest", nullable = false, length = 64)
+  private String digest;
+
+  @Column(name = "size", nullable = false)
+  private long size;
+
+  /** Content coding of the stored bytes, null for content stored before codings existed. */
+  @Column(name = "codec", length = 16)
+  private String codec;
+
+  @Column(name = "stored_size")
+  private Long storedSize;
+
+  @Column(name = "updated_at", nullable = false)
+  private Instant updatedAt;
+
+  @PrePersist
+  @PreUpdate
+  void touch() {
+    updatedAt = Instant.now();
+  }
+}
@@ -0,0 +1,78 @@
+package com.smilebat.learntribe.processor.dataaccess.jpa.entity;
+
+import java.time.Instant;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
+import javax.persistence.Table;
+import javax.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Plain text extracted from the uploaded resume bytes.
+ *
+ * <p>Keyed by content digest like the content store, so users uploading identical files share
+ * one extraction. As the digest is assigned, new instances report themselves as new so saving one
+ * inserts it, and fails on a concurrent insert, instead of merging into a stored text.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "resume_text")
+public class ResumeText implements Persistable<String> {
+
+  /** Outcome of an extraction. */
+  public enum Status {
+    EXTRACTED,
+    FAILED
+  }
+
+  @Id
+  @Column(name = "digest", nullable = false, updatable = false, length = 64)
+  private String digest;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status", nullable = false, length = 16)
+  private Status status;
+
+  @Column(name = "pages")
+  private Integer pages;
+
+  @Column(name = "text", columnDefinition = "text")
+  private String text;
+
+  @Column(name = "extracted_at", nullable = false)
+  private Instant extractedAt;
+
+  @Transient
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private boolean stored;
+
+  @Override
+  public String getId() {
+    return digest;
+  }
+
+  @Override
+  public boolean isNew() {
+    return !stored;
+  }
+
+  @PostLoad
+  @PostPersist
+  void markStored() {
+    stored = true;
+  }
+}
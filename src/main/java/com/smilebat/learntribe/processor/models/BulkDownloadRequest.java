@@ -0,0 +1,22 @@
+package com.smilebat.learntribe.processor.models;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Request for downloading the resumes of several applicants at once.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@Getter
+@Setter
+public class BulkDownloadRequest {
+
+  private List<String> emails = new ArrayList<>();
+
+  private List<String> keyCloakIds = new ArrayList<>();
+}
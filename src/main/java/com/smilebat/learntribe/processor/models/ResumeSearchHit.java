@@ -0,0 +1,30 @@
+package com.smilebat.learntribe.processor.models;
+
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Resume matching a search.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@Getter
+@Setter
+public class ResumeSearchHit {
+
+  private Long resumeId;
+
+  private String keyCloakId;
+
+  private String name;
+
+  private String currentDesignation;
+
+  private float score;
+
+  private Map<String, List<String>> highlights;
+}
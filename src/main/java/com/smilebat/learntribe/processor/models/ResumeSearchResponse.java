@@ -0,0 +1,25 @@
+package com.smilebat.learntribe.processor.models;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Page of resumes matching a search.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@Getter
+@Setter
+public class ResumeSearchResponse {
+
+  private long total;
+
+  private int page;
+
+  private int limit;
+
+  private List<ResumeSearchHit> hits;
+}
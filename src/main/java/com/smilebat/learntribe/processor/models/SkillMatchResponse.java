@@ -0,0 +1,21 @@
+package com.smilebat.learntribe.processor.models;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Resumes matching a boolean skill query.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@Getter
+@Setter
+public class SkillMatchResponse {
+
+  private long count;
+
+  private List<Long> resumeIds;
+}
@@ -0,0 +1,27 @@
+package com.smilebat.learntribe.processor.models;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * State of an asynchronous personal summary generation.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@Getter
+@Setter
+public class SummaryJobResponse {
+
+  private String id;
+
+  private String status;
+
+  private int attempts;
+
+  private List<String> summaries;
+
+  private String error;
+}
@@ -3,13 +3,50 @@ package com.smilebat.learntribe.processor.services;
 import com.smilebat.learntribe.dataaccess.FileDBRepository;
 import com.smilebat.learntribe.dataaccess.jpa.entity.FileDB;
 import com.smilebat.learntribe.learntribevalidator.learntribeexceptions.InvalidDataException;
+import com.smilebat.learntribe.processor.dataaccess.FileMetadata;
+import com.smilebat.learntribe.processor.dataaccess.FileMetadataRepository;
+import com.smilebat.learntribe.processor.dataaccess.ResumeContentRepository;
+import com.smilebat.learntribe.processor.dataaccess.jpa.entity.ResumeContent;
+import com.smilebat.learntribe.processor.services.extraction.ResumeTextExtractor;
+import com.smilebat.learntribe.processor.services.storage.ContentCodec;
+import com.smilebat.learntribe.processor.services.storage.ContentCollector;
+import com.smilebat.learntribe.processor.services.storage.ContentStore;
+import com.smilebat.learntribe.processor.services.storage.StoredContent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
-import javax.transaction.Transactional;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -24,47 +61,387 @@ import org.springframework.web.multipart.MultipartFile;
 @Service
 public class FileStorageService {
 
+  private static final byte[] NO_DATA = new byte[0];
+
   @Autowired private FileDBRepository fileDBRepository;
 
+  @Autowired private FileMetadataRepository metadataRepository;
+
+  @Autowired private ResumeContentRepository contentRepository;
+
+  @Autowired private ContentStore contentStore;
+
+  @Autowired private ContentCollector contentCollector;
+
+  @Autowired private ResumeTextExtractor textExtractor;
+
+  @Autowired private MeterRegistry meterRegistry;
+
+  @Autowired private TransactionTemplate transactionTemplate;
+
+  @PersistenceContext private EntityManager entityManager;
+
+  @Value("${resume.download.max-batch:500}")
+  private int maxBatchSize;
+
+  @Value("${resume.storage.buffer-size:65536}")
+  private int bufferSize;
+
+  @Value("${resume.storage.codec:gzip}")
+  private String codec;
+
+  @Value("${resume.storage.encoded-types:application/msword,application/rtf,text/plain}")
+  private Set<String> encodedTypes;
+
+  private DistributionSummary uploadSizes;
+  private Counter uploadedBytes;
+  private Counter deduplicatedBytes;
+  private DistributionSummary downloadSizes;
+  private Counter downloadedBytes;
+  private DistributionSummary bulkDownloadSizes;
+  private Counter bulkDownloadedBytes;
+
+  /** Registers the transfer metrics. */
+  @PostConstruct
+  public void registerMetrics() {
+    uploadSizes = sizes("resume.upload.size", "single");
+    uploadedBytes = bytes("resume.upload.bytes", "stored");
+    deduplicatedBytes = bytes("resume.upload.bytes", "deduplicated");
+    downloadSizes = sizes("resume.download.size", "single");
+    downloadedBytes = bytes("resume.download.bytes", "single");
+    bulkDownloadSizes = sizes("resume.download.size", "bulk");
+    bulkDownloadedBytes = bytes("resume.download.bytes", "bulk");
+  }
+
+  private DistributionSummary sizes(String name, String mode) {
+    return DistributionSummary.builder(name)
+        .description("Size of the transferred resumes")
+        .baseUnit("bytes")
+        .tag("mode", mode)
+        .publishPercentileHistogram()
+        .minimumExpectedValue(1024D)
+        .maximumExpectedValue(64D * 1024 * 1024)
+        .register(meterRegistry);
+  }
+
+  private Counter bytes(String name, String kind) {
+    return Counter.builder(name)
+        .description("Bytes of the transferred resumes")
+        .baseUnit("bytes")
+        .tag("kind", kind)
+        .register(meterRegistry);
+  }
+
   /**
-   * Uploads a file to db
+   * Uploads a file to db.
+   *
+   * <p>The bytes are streamed into the {@link ContentStore} keyed by their digest before a
+   * transaction is started, so no database connection is held while they are hashed, encoded and
+   * written. Only the metadata is kept in db, an existing row is updated without loading its legacy
+   * data. Re-uploading identical content only rewrites the metadata. Replaced content is released
+   * to the {@link ContentCollector}. The text extraction is queued once the upload committed.
    *
    * @param keycloakId the IAM id.
    * @param file the {@link MultipartFile}.
    * @param email the user email.
-   * @return the {@link FileDB}
    * @throws IOException on error.
    */
-  @Transactional
-  public FileDB store(String keycloakId, String email, MultipartFile file) throws IOException {
-    Optional<FileDB> opFile = fileDBRepository.findByKeycloakId(keycloakId);
-    FileDB fileDB = opFile.isPresent() ? opFile.get() : new FileDB();
+  public void store(String keycloakId, String email, MultipartFile file) throws IOException {
     if (file == null) {
       throw new InvalidDataException("Unable to process file");
     }
-    String originalFilename = file.getOriginalFilename();
-    if (originalFilename != null) {
-      String fileName = StringUtils.cleanPath(originalFilename);
-      fileDB.setName(fileName);
+    final StoredContent stored = contentStore.put(file, getCodecFor(file.getContentType()));
+    final long size = stored.getSize();
+    uploadSizes.record(size);
+    (stored.isCreated() ? uploadedBytes : deduplicatedBytes).increment(size);
+    transactionTemplate.executeWithoutResult(status -> record(keycloakId, email, file, stored));
+  }
+
+  private void record(String keycloakId, String email, MultipartFile file, StoredContent stored) {
+    releaseOnRollback(stored);
+    ResumeContent content = contentRepository.findById(keycloakId).orElseGet(ResumeContent::new);
+    final String previousDigest = content.getDigest();
+    content.setKeycloakId(keycloakId);
+    content.setDigest(stored.getDigest());
+    content.setSize(stored.getSize());
+    content.setCodec(stored.getCodec().getContentEncoding());
+    content.setStoredSize(stored.getStoredSize());
+    contentRepository.save(content);
+    if (previousDigest != null && !previousDigest.equals(stored.getDigest())) {
+      contentCollector.release(previousDigest);
+    }
+    extractAfterCommit(stored.getDigest());
+
+    final String originalFilename = file.getOriginalFilename();
+    final String fileName =
+        originalFilename == null ? null : StringUtils.cleanPath(originalFilename);
+    final Optional<FileMetadata> existing = metadataRepository.findByKeycloakId(keycloakId);
+    if (existing.isPresent()) {
+      final FileMetadata metadata = existing.get();
+      metadataRepository.updateFile(
+          metadata.getId(),
+          fileName == null ? metadata.getName() : fileName,
+          file.getContentType(),
+          stored.getSize(),
+          email,
+          NO_DATA);
+      return;
     }
+    FileDB fileDB = new FileDB();
+    fileDB.setName(fileName);
     fileDB.setType(file.getContentType());
-    fileDB.setData(file.getBytes());
-    fileDB.setSize(file.getSize());
+    fileDB.setData(NO_DATA);
+    fileDB.setSize(stored.getSize());
     fileDB.setKeycloakId(keycloakId);
     fileDB.setEmail(email);
-    return fileDBRepository.save(fileDB);
+    fileDBRepository.save(fileDB);
+  }
+
+  /**
+   * Releases content created by an upload if the surrounding transaction rolls back, since no
+   * committed reference may ever point to it.
+   *
+   * @param stored the {@link StoredContent}.
+   */
+  private void releaseOnRollback(StoredContent stored) {
+    if (!stored.isCreated() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    final String digest = stored.getDigest();
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCompletion(int status) {
+            if (status != STATUS_ROLLED_BACK) {
+              return;
+            }
+            try {
+              contentCollector.releaseOrphan(digest);
+            } catch (RuntimeException e) {
+              log.warn("Unable to release orphaned content {}", digest, e);
+            }
+          }
+        });
+  }
+
+  /**
+   * Queues the text extraction of content once the surrounding transaction committed.
+   *
+   * @param digest the content digest.
+   */
+  private void extractAfterCommit(String digest) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      textExtractor.submit(digest);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            textExtractor.submit(digest);
+          }
+        });
+  }
+
+  /**
+   * Opens the stored bytes of a file.
+   *
+   * <p>Files uploaded before the content store existed are served from {@link FileDB#getData()}.
+   *
+   * @param file the {@link FileMetadata}.
+   * @return the {@link InputStream}, to be closed by the caller.
+   * @throws IOException on error.
+   */
+  public InputStream openContent(FileMetadata file) throws IOException {
+    if (file.getDigest() != null) {
+      return contentStore.read(file.getDigest());
+    }
+    return new ByteArrayInputStream(loadLegacyData(file));
+  }
+
+  /**
+   * Exposes the decoded bytes of a file as a {@link Resource}, ranged downloads being cheap only
+   * for files stored as {@link ContentCodec#IDENTITY}.
+   *
+   * @param file the {@link FileMetadata}.
+   * @return the {@link Resource}.
+   * @throws IOException on error.
+   */
+  public Resource loadAsResource(FileMetadata file) throws IOException {
+    if (file.getSize() != null) {
+      downloadSizes.record(file.getSize());
+      downloadedBytes.increment(file.getSize());
+    }
+    if (file.getDigest() != null) {
+      return contentStore.asResource(file.getDigest());
+    }
+    return new ByteArrayResource(loadLegacyData(file));
+  }
+
+  /**
+   * Exposes the stored bytes of a file without decoding them, for clients accepting the coding.
+   *
+   * @param file the {@link FileMetadata}.
+   * @param codec the {@link ContentCodec} accepted by the client.
+   * @return the encoded {@link Resource}, empty if the file is not stored with that coding.
+   * @throws IOException on error.
+   */
+  public Optional<Resource> loadEncodedResource(FileMetadata file, ContentCodec codec)
+      throws IOException {
+    if (file.getDigest() == null || codec != getCodec(file)) {
+      return Optional.empty();
+    }
+    final Optional<Resource> resource = contentStore.asEncodedResource(file.getDigest(), codec);
+    if (resource.isPresent() && file.getSize() != null) {
+      downloadSizes.record(file.getSize());
+      downloadedBytes.increment(resource.get().contentLength());
+    }
+    return resource;
+  }
+
+  /**
+   * Gets the content coding the bytes of a file are stored with.
+   *
+   * @param file the {@link FileMetadata}.
+   * @return the {@link ContentCodec}.
+   */
+  public ContentCodec getCodec(FileMetadata file) {
+    return file.getDigest() == null ? ContentCodec.IDENTITY : ContentCodec.of(file.getCodec());
+  }
+
+  /**
+   * Computes the entity tag of the stored bytes, the content digest for content store files.
+   *
+   * @param file the {@link FileMetadata}.
+   * @return the entity tag.
+   */
+  public String getETag(FileMetadata file) {
+    if (file.getDigest() != null) {
+      return file.getDigest();
+    }
+    final String size = file.getSize() == null ? "0" : Long.toHexString(file.getSize());
+    return "db-" + file.getId() + "-" + size;
+  }
+
+  /**
+   * Computes the entity tag of a representation of the stored bytes, encoded representations
+   * being tagged apart from the decoded one.
+   *
+   * @param file the {@link FileMetadata}.
+   * @param codec the {@link ContentCodec} of the representation.
+   * @return the entity tag.
+   */
+  public String getETag(FileMetadata file, ContentCodec codec) {
+    final String eTag = getETag(file);
+    return codec == ContentCodec.IDENTITY ? eTag : eTag + "-" + codec.getContentEncoding();
+  }
+
+  /**
+   * Finds users whose upload still lives in the {@link FileDB#getData()} column.
+   *
+   * @param limit the maximum number of users.
+   * @return the IAM ids.
+   */
+  @Transactional(readOnly = true)
+  public List<String> findLegacyFiles(int limit) {
+    return metadataRepository.findKeycloakIdsWithoutContent(PageRequest.of(0, limit));
+  }
+
+  /**
+   * Finds content digests not stored with the coding of their file type.
+   *
+   * @param limit the maximum number of digests.
+   * @return the digests.
+   */
+  @Transactional(readOnly = true)
+  public List<String> findUnencodedContent(int limit) {
+    return contentRepository.findDigestsToReencode(encodedTypes, PageRequest.of(0, limit));
+  }
+
+  /**
+   * Chooses the coding content of a type is stored with.
+   *
+   * <p>Only the configured {@code resume.storage.encoded-types} are encoded. Formats compressing
+   * their content themselves, PDF in particular, are stored as is, so that byte ranges requested
+   * by viewers paging through them address the stored bytes.
+   *
+   * @param contentType the content type, may be null.
+   * @return the {@link ContentCodec}.
+   */
+  public ContentCodec getCodecFor(String contentType) {
+    if (contentType == null || !encodedTypes.contains(contentType.toLowerCase(Locale.ROOT))) {
+      return ContentCodec.IDENTITY;
+    }
+    return ContentCodec.of(codec);
   }
 
   /**
-   * Fetchs File entity from db
+   * Moves an upload from the {@link FileDB#getData()} column into the {@link ContentStore}.
+   *
+   * @param keycloakId the IAM id.
+   * @throws IOException on error.
+   */
+  @Transactional
+  public void migrateLegacyFile(String keycloakId) throws IOException {
+    final Optional<FileDB> opFile = fileDBRepository.findByKeycloakId(keycloakId);
+    if (opFile.isEmpty() || contentRepository.existsById(keycloakId)) {
+      return;
+    }
+    final FileDB fileDB = opFile.get();
+    final byte[] data = fileDB.getData();
+    if (data == null || data.length == 0) {
+      return;
+    }
+    final StoredContent stored =
+        contentStore.put(new ByteArrayResource(data), getCodecFor(fileDB.getType()));
+    releaseOnRollback(stored);
+    ResumeContent content = new ResumeContent();
+    content.setKeycloakId(keycloakId);
+    content.setDigest(stored.getDigest());
+    content.setSize(stored.getSize());
+    content.setCodec(stored.getCodec().getContentEncoding());
+    content.setStoredSize(stored.getStoredSize());
+    contentRepository.save(content);
+    extractAfterCommit(stored.getDigest());
+
+    fileDB.setData(NO_DATA);
+    fileDB.setSize(stored.getSize());
+    fileDBRepository.save(fileDB);
+    log.info("Moved resume of {} into the content store as {}", keycloakId, stored.getDigest());
+  }
+
+  /**
+   * Rewrites stored content with the coding of its file type and records it for all its
+   * references. Content shared by files of several types is stored as is.
+   *
+   * @param digest the content digest.
+   * @throws IOException on error.
+   */
+  public void reencodeContent(String digest) throws IOException {
+    final List<String> types = contentRepository.findTypesByDigest(digest);
+    final ContentCodec target =
+        types.size() == 1 ? getCodecFor(types.get(0)) : ContentCodec.IDENTITY;
+    final StoredContent stored = contentStore.reencode(digest, target);
+    contentRepository.updateCodec(
+        digest, stored.getCodec().getContentEncoding(), stored.getStoredSize());
+  }
+
+  private byte[] loadLegacyData(FileMetadata file) {
+    final byte[] data =
+        fileDBRepository.findByKeycloakId(file.getKeycloakId()).map(FileDB::getData).orElse(null);
+    return data == null ? NO_DATA : data;
+  }
+
+  /**
+   * Fetchs File metadata from db
    *
    * @param keycloakId the IAM id
-   * @return the {@link FileDB}
+   * @return the {@link FileMetadata}
    */
   @Transactional
-  public FileDB getFile(String keycloakId) {
+  public FileMetadata getFile(String keycloakId) {
     log.info("Fetching user resume");
-    final Optional<FileDB> opFile = fileDBRepository.findByKeycloakId(keycloakId);
+    final Optional<FileMetadata> opFile = metadataRepository.findByKeycloakId(keycloakId);
     if (opFile.isEmpty()) {
       throw new InvalidDataException("No resumes present for the user");
     }
@@ -72,15 +449,15 @@ public class FileStorageService {
   }
 
   /**
-   * Fetchs File entity from db based on email
+   * Fetchs File metadata from db based on email
    *
    * @param email the IAM email id
-   * @return the {@link FileDB}
+   * @return the {@link FileMetadata}
    */
   @Transactional
-  public FileDB getFileByEmail(String email) {
+  public FileMetadata getFileByEmail(String email) {
     log.info("Fetching applicant resume");
-    final Optional<FileDB> opFile = fileDBRepository.findByEmailId(email);
+    final Optional<FileMetadata> opFile = metadataRepository.findByEmail(email);
     if (opFile.isEmpty()) {
       throw new InvalidDataException("No resumes present for the user");
     }
@@ -88,11 +465,123 @@ public class FileStorageService {
   }
 
   /**
-   * Gets all files as streams.
+   * Fetchs File metadata of several users in one query per kind of identifier.
    *
-   * @return the {@link FileDB} as stream.
+   * @param emails the emails.
+   * @param keycloakIds the IAM ids.
+   * @return the List of {@link FileMetadata}, one entry per user.
    */
-  public Stream<FileDB> getAllFiles() {
-    return fileDBRepository.findAll().stream();
+  @Transactional
+  public List<FileMetadata> getFiles(Collection<String> emails, Collection<String> keycloakIds) {
+    final int requested =
+        (emails == null ? 0 : emails.size()) + (keycloakIds == null ? 0 : keycloakIds.size());
+    if (requested == 0 || requested > maxBatchSize) {
+      throw new InvalidDataException("Between 1 and " + maxBatchSize + " resumes can be requested");
+    }
+    log.info("Fetching {} applicant resumes", requested);
+    Map<String, FileMetadata> files = new LinkedHashMap<>();
+    if (emails != null && !emails.isEmpty()) {
+      metadataRepository.findByEmailIn(emails).forEach(f -> files.put(f.getKeycloakId(), f));
+    }
+    if (keycloakIds != null && !keycloakIds.isEmpty()) {
+      metadataRepository
+          .findByKeycloakIdIn(keycloakIds)
+          .forEach(f -> files.put(f.getKeycloakId(), f));
+    }
+    return List.copyOf(files.values());
+  }
+
+  /**
+   * Writes the files as a zip archive, streaming one file at a time through a fixed size buffer.
+   *
+   * <p>Files whose content cannot be opened are skipped.
+   *
+   * @param files the List of {@link FileMetadata}.
+   * @param out the {@link OutputStream}, not closed.
+   * @throws IOException on error.
+   */
+  public void writeZip(List<FileMetadata> files, OutputStream out) throws IOException {
+    final byte[] buffer = new byte[bufferSize];
+    final Set<String> entryNames = new HashSet<>();
+    ZipOutputStream zip = new ZipOutputStream(out);
+    zip.setLevel(Deflater.BEST_SPEED);
+    for (FileMetadata file : files) {
+      final InputStream content;
+      try {
+        content = openContent(file);
+      } catch (IOException e) {
+        log.warn("Skipping unreadable resume of {}", file.getKeycloakId(), e);
+        continue;
+      }
+      long written = 0;
+      try (InputStream in = content) {
+        zip.putNextEntry(new ZipEntry(toEntryName(file, entryNames)));
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+          zip.write(buffer, 0, read);
+          written += read;
+        }
+        zip.closeEntry();
+      } finally {
+        bulkDownloadSizes.record(written);
+        bulkDownloadedBytes.increment(written);
+      }
+    }
+    zip.finish();
+  }
+
+  private static String toEntryName(FileMetadata file, Set<String> entryNames) {
+    final String owner = file.getEmail() != null ? file.getEmail() : file.getKeycloakId();
+    final String name = file.getName() != null ? file.getName() : "resume.pdf";
+    final String entryName = (owner + "-" + name).replaceAll("[/\\\\]", "_");
+    String unique = entryName;
+    for (int i = 1; !entryNames.add(unique); i++) {
+      unique = i + "-" + entryName;
+    }
+    return unique;
+  }
+
+  /**
+   * Gets the metadata of all files as a cursor backed stream.
+   *
+   * <p>Must be called inside a transaction, and the stream closed before it ends.
+   *
+   * @return the {@link FileMetadata} as stream.
+   */
+  @Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+  public Stream<FileMetadata> getAllFiles() {
+    return metadataRepository.streamAllMetadata();
+  }
+
+  /**
+   * Visits the metadata of all files in a read only transaction, holding one cursor chunk in
+   * memory at a time.
+   *
+   * @param action the action applied to every {@link FileMetadata}.
+   */
+  @Transactional(readOnly = true)
+  public void forEachFile(Consumer<? super FileMetadata> action) {
+    try (Stream<FileMetadata> files = metadataRepository.streamAllMetadata()) {
+      files.forEach(action);
+    }
+  }
+
+  /**
+   * Visits all files including their bytes in a read only transaction.
+   *
+   * <p>Every entity is detached once visited, so the persistence context does not grow with the
+   * number of files.
+   *
+   * @param action the action applied to every {@link FileDB}.
+   */
+  @Transactional(readOnly = true)
+  public void forEachFileWithData(Consumer<? super FileDB> action) {
+    try (Stream<FileDB> files = metadataRepository.streamAllFiles()) {
+      files.forEach(
+          file -> {
+            action.accept(file);
+            entityManager.detach(file);
+          });
+    }
   }
 }
@@ -1,37 +1,45 @@
 package com.smilebat.learntribe.processor.services;
 
 import com.google.common.base.Verify;
-import com.smilebat.learntribe.dataaccess.ProfileSummaryRepository;
-import com.smilebat.learntribe.dataaccess.ResumeEducationExperienceRepository;
 import com.smilebat.learntribe.dataaccess.ResumeRepository;
-import com.smilebat.learntribe.dataaccess.ResumeSideProjectRepository;
-import com.smilebat.learntribe.dataaccess.ResumeWorkExperienceRepository;
 import com.smilebat.learntribe.dataaccess.UserProfileRepository;
 import com.smilebat.learntribe.dataaccess.jpa.entity.ProfileSummary;
 import com.smilebat.learntribe.dataaccess.jpa.entity.Resume;
-import com.smilebat.learntribe.dataaccess.jpa.entity.ResumeEducationExperience;
-import com.smilebat.learntribe.dataaccess.jpa.entity.ResumeSideProject;
-import com.smilebat.learntribe.dataaccess.jpa.entity.ResumeWorkExperience;
 import com.smilebat.learntribe.dataaccess.jpa.entity.UserProfile;
 import com.smilebat.learntribe.dataaccess.jpa.entity.WorkExperience;
-import com.smilebat.learntribe.learntribeclients.openai.OpenAiService;
 import com.smilebat.learntribe.learntribevalidator.learntribeexceptions.InvalidDataException;
 import com.smilebat.learntribe.processor.converters.ProfileSummaryConverter;
 import com.smilebat.learntribe.processor.converters.ResumeConverter;
+import com.smilebat.learntribe.processor.dataaccess.ResumeDeletionRepository;
+import com.smilebat.learntribe.processor.dataaccess.ResumeQueryRepository;
+import com.smilebat.learntribe.processor.services.cache.ResumeResponseCache;
 import com.smilebat.learntribe.processor.services.experiences.ExperienceService;
+import com.smilebat.learntribe.processor.services.search.ResumeSearchService;
+import com.smilebat.learntribe.processor.services.skills.SkillIndex;
+import com.smilebat.learntribe.processor.services.summaries.PersonalSummaryCache;
+import com.smilebat.learntribe.processor.services.summaries.RoleSummaryCache;
+import com.smilebat.learntribe.processor.services.summaries.RoleSummaryIndex;
+import com.smilebat.learntribe.processor.services.summaries.SummaryJob;
+import com.smilebat.learntribe.processor.services.summaries.SummaryJobService;
+import com.smilebat.learntribe.processor.services.summaries.SummaryPrompt;
 import com.smilebat.learntribe.resume.ResumeBuilderRequest;
 import com.smilebat.learntribe.resume.response.ResumeBuilderResponse;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import javax.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Resume Builder Service to hold the business logic.
@@ -46,9 +54,17 @@ public class ResumeBuilderService {
 
   private static final int MAX_RESUMES = 3;
 
-  private final OpenAiService openAiService;
+  private static final int MAX_SUMMARIES = 25;
 
-  private final ProfileSummaryRepository summaryRepository;
+  private final PersonalSummaryCache personalSummaryCache;
+
+  private final SummaryJobService summaryJobService;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final RoleSummaryIndex summaryIndex;
+
+  private final RoleSummaryCache summaryCache;
 
   private final UserProfileRepository profileRepository;
 
@@ -58,41 +74,35 @@ public class ResumeBuilderService {
 
   private final ExperienceService experienceService;
   private final ResumeRepository repository;
-
-  private final ResumeSideProjectRepository sideProjectRepository;
-  private final ResumeWorkExperienceRepository workExperienceRepository;
-  private final ResumeEducationExperienceRepository educationExperienceRepository;
+  private final ResumeQueryRepository queryRepository;
+  private final ResumeDeletionRepository deletionRepository;
+  private final ResumeResponseCache responseCache;
+  private final ResumeSearchService searchService;
+  private final SkillIndex skillIndex;
 
   /**
    * Deletes a resume.
    *
+   * <p>The experiences and the resume are deleted set based, in a constant number of statements
+   * regardless of the number of experiences. Set based deletes bypass the automatic indexing, so
+   * the resume is purged from the search index explicitly.
+   *
    * @param resumeId the Resume id to be deleted.
    */
   @Transactional
   public void deleteResume(Long resumeId) {
     Verify.verifyNotNull(resumeId, "Resume id cannot be null");
-    final Optional<Resume> byResumeId = repository.findById(resumeId);
-
-    if (!byResumeId.isPresent()) {
-      throw new IllegalArgumentException("Resume Cannot be found");
-    }
-    Resume resume = byResumeId.get();
-    Set<ResumeEducationExperience> educationExperiences = resume.getEducationExperiences();
-    Set<ResumeWorkExperience> workExperiences = resume.getWorkExperiences();
-    Set<ResumeSideProject> sideProjects = resume.getSideProjects();
-    final List<Long> edExpIds =
-        educationExperiences
-            .stream()
-            .map(ResumeEducationExperience::getId)
-            .collect(Collectors.toList());
-    final List<Long> workExpIds =
-        workExperiences.stream().map(ResumeWorkExperience::getId).collect(Collectors.toList());
-    final List<Long> sideProjectIds =
-        sideProjects.stream().map(ResumeSideProject::getId).collect(Collectors.toList());
-    educationExperienceRepository.deleteAllById(edExpIds);
-    workExperienceRepository.deleteAllById(workExpIds);
-    sideProjectRepository.deleteAllById(sideProjectIds);
-    repository.delete(byResumeId.get());
+    final String keyCloakId =
+        deletionRepository
+            .findKeyCloakIdById(resumeId)
+            .orElseThrow(() -> new IllegalArgumentException("Resume Cannot be found"));
+    deletionRepository.deleteEducationExperiences(resumeId);
+    deletionRepository.deleteWorkExperiences(resumeId);
+    deletionRepository.deleteSideProjects(resumeId);
+    deletionRepository.deleteResume(resumeId);
+    searchService.purge(resumeId);
+    skillIndex.removeAfterCommit(resumeId);
+    evictAfterCommit(keyCloakId);
   }
 
   /**
@@ -110,9 +120,13 @@ public class ResumeBuilderService {
 
     if (byResumeId.isPresent()) {
       Resume resume = byResumeId.get();
+      evictAfterCommit(resume.getKeyCloakId());
+      evictAfterCommit(keyCloakId);
       resumeConverter.updateEntity(request, resume);
       experienceService.saveAllExperiences(request, resume);
-      repository.save(resume);
+      final Resume saved = repository.save(resume);
+      searchService.reindex(saved);
+      skillIndex.updateAfterCommit(saved);
     }
   }
 
@@ -135,34 +149,74 @@ public class ResumeBuilderService {
       existingResume = repository.findById(request.getId());
     }
     Resume resume = existingResume.isPresent() ? existingResume.get() : new Resume();
+    existingResume.ifPresent(existing -> evictAfterCommit(existing.getKeyCloakId()));
+    evictAfterCommit(keyCloakId);
     resumeConverter.updateEntity(request, resume);
     experienceService.saveAllExperiences(request, resume);
-    repository.save(resume);
+    final Resume saved = repository.save(resume);
+    searchService.reindex(saved);
+    skillIndex.updateAfterCommit(saved);
+  }
+
+  /**
+   * Drops the cached resumes of a user now and again once the transaction committed, so that a
+   * concurrent read cannot cache the state from before the commit.
+   *
+   * @param keyCloakId the IAM id.
+   */
+  private void evictAfterCommit(String keyCloakId) {
+    if (keyCloakId == null) {
+      return;
+    }
+    responseCache.evict(keyCloakId);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+              responseCache.evict(keyCloakId);
+            }
+          });
+    }
   }
 
   /**
    * Fetches all saved user resumes.
    *
+   * <p>Served from the {@link ResumeResponseCache}. On a miss the resumes and all their
+   * experiences are loaded in three statements before conversion.
+   *
    * @param keyCloakId the IAM id.
    * @return the list of {@link ResumeBuilderResponse}.
    */
-  @Transactional
   public List<ResumeBuilderResponse> fetchUserResumes(String keyCloakId) {
     Verify.verifyNotNull(keyCloakId, "IAM id cannot be null");
-    List<Resume> resumes = repository.findByKeyCloakId(keyCloakId);
-    return resumeConverter.toResponse(resumes);
+    return responseCache.get(
+        keyCloakId,
+        key ->
+            transactionTemplate.execute(
+                status ->
+                    resumeConverter.toResponse(
+                        queryRepository.findWithExperiencesByKeyCloakId(key))));
   }
 
   /**
    * Retrieves Suggested Work Experiences for User.
    *
+   * <p>The page number is checked here for both the {@link RoleSummaryIndex} and the {@link
+   * RoleSummaryCache} used until the index is warm.
+   *
    * @param keyCloakId the IAM id.
    * @param pageNum the page number.
    * @return the Collection of Summaries.
+   * @throws InvalidDataException if the page number is negative.
    */
   @Transactional
   public Collection<String> getWorkExpSummaries(String keyCloakId, int pageNum) {
     Verify.verifyNotNull(keyCloakId, "IAM User id cannot be null");
+    if (pageNum < 0) {
+      throw new InvalidDataException("Page number cannot be negative");
+    }
     UserProfile profile = profileRepository.findByKeyCloakId(keyCloakId);
     if (profile == null) {
       return Collections.emptyList();
@@ -172,19 +226,94 @@ public class ResumeBuilderService {
             .getWorkExperiences()
             .stream()
             .map(WorkExperience::getDesignation)
-            .collect(Collectors.toSet());
-
-    int totalRoles = roles.size();
-    int requiredSummaryPerRole = 25 / totalRoles;
-    List<ProfileSummary> summaries = Collections.emptyList();
-    for (String role : roles) {
-      if (summaries.size() >= 25) {
-        break;
-      }
-      Pageable pageable = PageRequest.of(pageNum, requiredSummaryPerRole);
-      List<ProfileSummary> roleSummaries = summaryRepository.findByRole(role, pageable);
-      summaries.addAll(roleSummaries);
+            .filter(Objects::nonNull)
+            .distinct()
+            .limit(MAX_SUMMARIES)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    if (roles.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    int requiredSummaryPerRole = Math.max(1, MAX_SUMMARIES / roles.size());
+    if (summaryIndex.isReady()) {
+      return summaryIndex.getSummaries(roles, pageNum, requiredSummaryPerRole, MAX_SUMMARIES);
+    }
+    List<ProfileSummary> summaries =
+        summaryCache.getSummaries(roles, pageNum, requiredSummaryPerRole);
+    if (summaries.size() > MAX_SUMMARIES) {
+      summaries = summaries.subList(0, MAX_SUMMARIES);
     }
     return converter.toResponse(summaries);
   }
+
+  /**
+   * Retrieves Suggested Personal Summaries for User, generated from the skills and current role.
+   *
+   * <p>The profile is read in a short transaction, the generation completes the returned future
+   * without holding the calling thread.
+   *
+   * @param keyCloakId the IAM id.
+   * @param pageNum the page number.
+   * @param pageSize the page size.
+   * @return the future Collection of Summaries.
+   */
+  public CompletableFuture<Collection<String>> getPersonalSummaries(
+      String keyCloakId, int pageNum, int pageSize) {
+    Verify.verifyNotNull(keyCloakId, "IAM User id cannot be null");
+    final SummaryPrompt prompt = findPrompt(keyCloakId);
+    if (prompt.getRole() == null || pageNum < 0 || pageSize <= 0) {
+      return CompletableFuture.completedFuture(Collections.emptyList());
+    }
+    return personalSummaryCache
+        .getWithinTimeout(prompt.getSkills(), prompt.getRole())
+        .thenApply(
+            summaries ->
+                summaries
+                    .stream()
+                    .skip((long) pageNum * pageSize)
+                    .limit(pageSize)
+                    .collect(Collectors.toList()));
+  }
+
+  /**
+   * Submits an asynchronous generation of Personal Summaries for User.
+   *
+   * @param keyCloakId the IAM id.
+   * @return the {@link SummaryJob}.
+   */
+  public SummaryJob submitPersonalSummaries(String keyCloakId) {
+    Verify.verifyNotNull(keyCloakId, "IAM User id cannot be null");
+    final SummaryPrompt prompt = findPrompt(keyCloakId);
+    return summaryJobService.submit(keyCloakId, prompt.getSkills(), prompt.getRole());
+  }
+
+  /**
+   * Reads the skills and current role of the user in a short transaction.
+   *
+   * @param keyCloakId the IAM id.
+   * @return the {@link SummaryPrompt}, skills and role null when unknown.
+   */
+  private SummaryPrompt findPrompt(String keyCloakId) {
+    final SummaryPrompt prompt =
+        transactionTemplate.execute(
+            status -> {
+              UserProfile profile = profileRepository.findByKeyCloakId(keyCloakId);
+              return profile == null
+                  ? null
+                  : new SummaryPrompt(profile.getSkills(), getCurrentRole(profile));
+            });
+    return prompt == null ? new SummaryPrompt(null, null) : prompt;
+  }
+
+  private static String getCurrentRole(UserProfile profile) {
+    return profile
+        .getWorkExperiences()
+        .stream()
+        .filter(exp -> exp.getDesignation() != null)
+        .max(
+            Comparator.comparing(
+                WorkExperience::getStartDate, Comparator.nullsFirst(Comparator.naturalOrder())))
+        .map(WorkExperience::getDesignation)
+        .orElse(null);
+  }
 }
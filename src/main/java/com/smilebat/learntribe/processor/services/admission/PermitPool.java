@@ -0,0 +1,163 @@
+package com.smilebat.learntribe.processor.services.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fair pool of permits with a bounded number of waiters, admitting work in proportion to its
+ * weight.
+ *
+ * <p>A request wanting more permits than the pool holds is charged the whole pool, so it is
+ * admitted alone rather than never. Permits in use, the pool limit and the waiters are exposed as
+ * {@code resume.admission.permits}, {@code resume.admission.limit} and {@code
+ * resume.admission.waiting}, rejections as {@code resume.admission.rejected}, all tagged with the
+ * pool name.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+public class PermitPool {
+
+  /** Outcome of an admission attempt. */
+  public enum Admission {
+    /** The permits were acquired and must be released. */
+    ADMITTED,
+    /** Too many requests were already waiting. */
+    QUEUE_FULL,
+    /** No permits were released within the maximum wait. */
+    TIMED_OUT
+  }
+
+  private final int limit;
+  private final int maxWaiting;
+  private final Duration maxWait;
+  private final Semaphore permits;
+  private final AtomicInteger waiting = new AtomicInteger();
+  private final Counter queueFull;
+  private final Counter timedOut;
+
+  /**
+   * Creates the pool and registers its meters.
+   *
+   * @param name the pool name, used as meter tag.
+   * @param baseUnit the unit of the permits.
+   * @param limit the number of permits.
+   * @param maxWaiting the number of requests allowed to wait for permits.
+   * @param maxWait the longest a request waits for permits.
+   * @param registry the {@link MeterRegistry}.
+   */
+  public PermitPool(
+      String name,
+      String baseUnit,
+      int limit,
+      int maxWaiting,
+      Duration maxWait,
+      MeterRegistry registry) {
+    if (limit <= 0 || maxWaiting < 0) {
+      throw new IllegalArgumentException("Invalid limits for admission pool " + name);
+    }
+    this.limit = limit;
+    this.maxWaiting = maxWaiting;
+    this.maxWait = maxWait;
+    this.permits = new Semaphore(limit, true);
+    Gauge.builder("resume.admission.permits", this, PermitPool::getUsed)
+        .description("Admission permits in use")
+        .baseUnit(baseUnit)
+        .tag("pool", name)
+        .register(registry);
+    Gauge.builder("resume.admission.limit", this, PermitPool::getLimit)
+        .description("Admission permits of the pool")
+        .baseUnit(baseUnit)
+        .tag("pool", name)
+        .register(registry);
+    Gauge.builder("resume.admission.waiting", waiting, AtomicInteger::get)
+        .description("Requests waiting for admission permits")
+        .tag("pool", name)
+        .register(registry);
+    queueFull = rejected(name, "queue_full", registry);
+    timedOut = rejected(name, "timed_out", registry);
+  }
+
+  private static Counter rejected(String name, String reason, MeterRegistry registry) {
+    return Counter.builder("resume.admission.rejected")
+        .description("Requests rejected by the admission control")
+        .tag("pool", name)
+        .tag("reason", reason)
+        .register(registry);
+  }
+
+  /**
+   * Acquires permits, waiting at most the configured time when the pool is exhausted.
+   *
+   * @param requested the number of permits.
+   * @return the {@link Admission}, {@link Admission#ADMITTED} if {@link #release(int)} is due.
+   * @throws InterruptedException if interrupted while waiting.
+   */
+  public Admission acquire(int requested) throws InterruptedException {
+    final int charged = charge(requested);
+    // The timed variant honours the fairness, so small requests do not barge past waiting ones.
+    if (permits.tryAcquire(charged, 0, TimeUnit.NANOSECONDS)) {
+      return Admission.ADMITTED;
+    }
+    if (waiting.incrementAndGet() > maxWaiting) {
+      waiting.decrementAndGet();
+      queueFull.increment();
+      return Admission.QUEUE_FULL;
+    }
+    try {
+      if (permits.tryAcquire(charged, maxWait.toNanos(), TimeUnit.NANOSECONDS)) {
+        return Admission.ADMITTED;
+      }
+    } finally {
+      waiting.decrementAndGet();
+    }
+    timedOut.increment();
+    return Admission.TIMED_OUT;
+  }
+
+  /**
+   * Releases permits acquired by {@link #acquire(int)}.
+   *
+   * @param requested the number of permits passed to {@link #acquire(int)}.
+   */
+  public void release(int requested) {
+    permits.release(charge(requested));
+  }
+
+  private int charge(int requested) {
+    return Math.max(1, Math.min(requested, limit));
+  }
+
+  /**
+   * Gets the permits in use.
+   *
+   * @return the permits in use.
+   */
+  public int getUsed() {
+    return limit - permits.availablePermits();
+  }
+
+  /**
+   * Gets the number of permits of the pool.
+   *
+   * @return the limit.
+   */
+  public int getLimit() {
+    return limit;
+  }
+
+  /**
+   * Gets the requests waiting for permits.
+   *
+   * @return the number of waiters.
+   */
+  public int getWaiting() {
+    return waiting.get();
+  }
+}
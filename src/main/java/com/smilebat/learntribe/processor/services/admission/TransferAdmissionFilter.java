@@ -0,0 +1,191 @@
+package com.smilebat.learntribe.processor.services.admission;
+
+import com.smilebat.learntribe.processor.services.admission.PermitPool.Admission;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * Admission control for the resume uploads and downloads.
+ *
+ * <p>Uploads are charged their declared length against a pool of upload bytes in flight, in KiB,
+ * before the multipart body is read. Uploads without a length are charged the maximum upload size.
+ * Downloads take one permit of a separate pool for as long as the response is written, including
+ * asynchronously streamed archives and the file export. Requests that cannot get permits wait a
+ * short while; past the wait queue they are answered 429, past the wait 503, both with {@code
+ * Retry-After}. Other endpoints are never throttled, so file traffic cannot starve the resume CRUD
+ * endpoints of heap or database connections.
+ *
+ * <p>Paths are matched with or without a trailing slash, as the handler mappings match them.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@Slf4j
+@Component
+public class TransferAdmissionFilter extends OncePerRequestFilter {
+
+  private static final String UPLOAD_PATH = "/api/v1/resume/upload";
+  private static final String DOWNLOAD_PATH = "/api/v1/resume/download";
+  private static final String BULK_DOWNLOAD_PATH = "/api/v1/resume/download/bulk";
+  private static final String EXPORT_PATH = "/api/v1/resume/admin/files";
+  private static final long KIB = 1024L;
+
+  private final PermitPool uploads;
+  private final PermitPool downloads;
+  private final long unknownLengthBytes;
+  private final String retryAfterSeconds;
+  private final UrlPathHelper pathHelper = new UrlPathHelper();
+
+  /**
+   * Creates the filter and its permit pools.
+   *
+   * @param registry the {@link MeterRegistry}.
+   * @param uploadBytes the upload bytes in flight.
+   * @param unknownLength the bytes charged to uploads without a declared length.
+   * @param downloadLimit the concurrent downloads.
+   * @param maxWaiting the requests allowed to wait for permits, per pool.
+   * @param maxWait the longest a request waits for permits.
+   * @param retryAfter the delay suggested to rejected clients.
+   */
+  public TransferAdmissionFilter(
+      MeterRegistry registry,
+      @Value("${resume.admission.upload.max-bytes-in-flight:200MB}") DataSize uploadBytes,
+      @Value("${resume.admission.upload.unknown-length:50MB}") DataSize unknownLength,
+      @Value("${resume.admission.download.max-concurrent:32}") int downloadLimit,
+      @Value("${resume.admission.max-waiting:16}") int maxWaiting,
+      @Value("${resume.admission.max-wait:PT2S}") Duration maxWait,
+      @Value("${resume.admission.retry-after:PT5S}") Duration retryAfter) {
+    this.uploads =
+        new PermitPool(
+            "upload", "kibibytes", toKib(uploadBytes.toBytes()), maxWaiting, maxWait, registry);
+    this.downloads =
+        new PermitPool("download", "requests", downloadLimit, maxWaiting, maxWait, registry);
+    this.unknownLengthBytes = unknownLength.toBytes();
+    this.retryAfterSeconds = Long.toString(Math.max(1L, retryAfter.toSeconds()));
+  }
+
+  private static int toKib(long bytes) {
+    return (int) Math.min(Integer.MAX_VALUE, (bytes + KIB - 1) / KIB);
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return selectPool(request) == null;
+  }
+
+  private PermitPool selectPool(HttpServletRequest request) {
+    final String path = stripTrailingSlash(pathHelper.getPathWithinApplication(request));
+    final String method = request.getMethod();
+    if ("POST".equals(method) && UPLOAD_PATH.equals(path)) {
+      return uploads;
+    }
+    if (("GET".equals(method) && (DOWNLOAD_PATH.equals(path) || EXPORT_PATH.equals(path)))
+        || ("POST".equals(method) && BULK_DOWNLOAD_PATH.equals(path))) {
+      return downloads;
+    }
+    return null;
+  }
+
+  private static String stripTrailingSlash(String path) {
+    return path.length() > 1 && path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+      throws ServletException, IOException {
+    final PermitPool pool = selectPool(request);
+    final int permits;
+    if (pool == uploads) {
+      final long length = request.getContentLengthLong();
+      permits = toKib(length < 0 ? unknownLengthBytes : length);
+    } else {
+      permits = 1;
+    }
+    final Admission admission;
+    try {
+      admission = pool.acquire(permits);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      reject(response, HttpStatus.SERVICE_UNAVAILABLE);
+      return;
+    }
+    if (admission != Admission.ADMITTED) {
+      log.warn("Rejecting {} {}: {}", request.getMethod(), request.getRequestURI(), admission);
+      reject(
+          response,
+          admission == Admission.QUEUE_FULL
+              ? HttpStatus.TOO_MANY_REQUESTS
+              : HttpStatus.SERVICE_UNAVAILABLE);
+      return;
+    }
+    final AtomicBoolean released = new AtomicBoolean();
+    final Runnable release =
+        () -> {
+          if (released.compareAndSet(false, true)) {
+            pool.release(permits);
+          }
+        };
+    try {
+      chain.doFilter(request, response);
+    } finally {
+      if (request.isAsyncStarted()) {
+        request.getAsyncContext().addListener(new ReleasingListener(release));
+      } else {
+        release.run();
+      }
+    }
+  }
+
+  private void reject(HttpServletResponse response, HttpStatus status) {
+    response.setStatus(status.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+  }
+
+  /** Releases the permits of a request once its asynchronous processing completed. */
+  private static final class ReleasingListener implements AsyncListener {
+
+    private final Runnable release;
+
+    ReleasingListener(Runnable release) {
+      this.release = release;
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      release.run();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+      // Completion follows the timeout.
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+      release.run();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+      event.getAsyncContext().addListener(this);
+    }
+  }
+}
@@ -0,0 +1,110 @@
+package com.smilebat.learntribe.processor.services.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.smilebat.learntribe.inquisitve.response.EducationalExpResponse;
+import com.smilebat.learntribe.inquisitve.response.SideProjectResponse;
+import com.smilebat.learntribe.inquisitve.response.WorkExperienceResponse;
+import com.smilebat.learntribe.resume.response.ResumeBuilderResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Local {@link ResumeResponseCache} on Caffeine.
+ *
+ * <p>Entries are bounded by an estimate of their heap footprint and expire after a while, bounding
+ * the staleness across instances. Hit and miss counts are published as {@code cache.*} metrics
+ * tagged {@code cache=resume.responses}.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@Component
+public class CaffeineResumeResponseCache implements ResumeResponseCache {
+
+  private static final int RESUME_OVERHEAD = 512;
+  private static final int EXPERIENCE_OVERHEAD = 256;
+
+  private final Cache<String, List<ResumeBuilderResponse>> cache;
+
+  /**
+   * Creates the cache.
+   *
+   * @param maximumUsers the maximum number of cached users.
+   * @param maximumBytes the maximum estimated heap footprint of the cached resumes.
+   * @param timeToLive the time after which cached resumes are reloaded.
+   * @param registry the optional {@link MeterRegistry}.
+   */
+  public CaffeineResumeResponseCache(
+      @Value("${resume.responses.cache.max-users:20000}") long maximumUsers,
+      @Value("${resume.responses.cache.max-bytes:67108864}") long maximumBytes,
+      @Value("${resume.responses.cache.ttl:PT10M}") Duration timeToLive,
+      ObjectProvider<MeterRegistry> registry) {
+    // Every user weighs at least its share of the byte budget, bounding the user count as well.
+    final long minimumWeight = Math.max(1, maximumBytes / maximumUsers);
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumWeight(maximumBytes)
+            .weigher(
+                (String key, List<ResumeBuilderResponse> value) -> {
+                  final long weight = Math.max(minimumWeight, estimateBytes(value));
+                  return (int) Math.min(Integer.MAX_VALUE, weight);
+                })
+            .expireAfterWrite(timeToLive)
+            .recordStats()
+            .build();
+    registry.ifAvailable(r -> CaffeineCacheMetrics.monitor(r, cache, "resume.responses"));
+  }
+
+  @Override
+  public List<ResumeBuilderResponse> get(
+      String keyCloakId, Function<String, List<ResumeBuilderResponse>> loader) {
+    return cache.get(keyCloakId, key -> List.copyOf(loader.apply(key)));
+  }
+
+  @Override
+  public void evict(String keyCloakId) {
+    cache.invalidate(keyCloakId);
+  }
+
+  /**
+   * Estimates the heap footprint of the resumes of a user.
+   *
+   * @param resumes the List of {@link ResumeBuilderResponse}.
+   * @return the estimate in bytes.
+   */
+  static long estimateBytes(List<ResumeBuilderResponse> resumes) {
+    long bytes = 0;
+    for (ResumeBuilderResponse resume : resumes) {
+      bytes += RESUME_OVERHEAD + chars(resume.getAbout());
+      final List<WorkExperienceResponse> work = resume.getWorkExperiences();
+      if (work != null) {
+        for (WorkExperienceResponse experience : work) {
+          bytes += EXPERIENCE_OVERHEAD + chars(experience.getDescription());
+        }
+      }
+      final List<EducationalExpResponse> education = resume.getEducationExperiences();
+      if (education != null) {
+        bytes += (long) education.size() * EXPERIENCE_OVERHEAD;
+      }
+      final List<SideProjectResponse> sideProjects = resume.getSideProjects();
+      if (sideProjects != null) {
+        for (SideProjectResponse sideProject : sideProjects) {
+          bytes += EXPERIENCE_OVERHEAD + chars(sideProject.getDescription());
+        }
+      }
+    }
+    return bytes;
+  }
+
+  private static long chars(String value) {
+    return value == null ? 0 : 2L * value.length();
+  }
+}
@@ -0,0 +1,32 @@
+package com.smilebat.learntribe.processor.services.cache;
+
+import com.smilebat.learntribe.resume.response.ResumeBuilderResponse;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Read through cache of the assembled resumes of a user.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+public interface ResumeResponseCache {
+
+  /**
+   * Gets the resumes of a user, loading and caching them when absent.
+   *
+   * @param keyCloakId the IAM id.
+   * @param loader the loader of the resumes.
+   * @return the unmodifiable List of {@link ResumeBuilderResponse}.
+   */
+  List<ResumeBuilderResponse> get(
+      String keyCloakId, Function<String, List<ResumeBuilderResponse>> loader);
+
+  /**
+   * Drops the cached resumes of a user.
+   *
+   * @param keyCloakId the IAM id.
+   */
+  void evict(String keyCloakId);
+}
@@ -1,57 +1,123 @@
 package com.smilebat.learntribe.processor.services.experiences;
 
 import com.smilebat.learntribe.dataaccess.jpa.entity.Experience;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.Collection;
+import java.util.Objects;
 import java.util.Set;
-import java.util.function.Consumer;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.TreeSet;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * The default business logic for all experience computations.
  *
+ * <p>Strategies are stateless singletons, all the state of a save lives in its {@link
+ * ExperienceContext}.
+ *
  * <p>Copyright &copy; 2022 Smile .Bat
  *
  * @author Pai,Sai Nandan
  */
 @Slf4j
-public class DefaultExperienceStrategy<P extends ExperienceContext, R extends Experience>
+public abstract class DefaultExperienceStrategy<P extends ExperienceContext, R extends Experience>
     implements ExperienceStartegy<P> {
 
-  private Consumer<Experience> resetId = (exp) -> exp.setId(null);
+  private static final String METRIC = "resume.experiences.reconciled";
+
+  private final Counter inserted;
+  private final Counter updated;
+  private final Counter deleted;
 
-  @Override
-  public void updateExperiences(P context) {
-    log.info("Updating User Experiences");
+  /**
+   * Registers the reconcile counters of this strategy. Strategies are created once, so the
+   * counters are too.
+   *
+   * @param registry the {@link MeterRegistry}.
+   */
+  protected DefaultExperienceStrategy(MeterRegistry registry) {
+    inserted = outcome(registry, "inserted");
+    updated = outcome(registry, "updated");
+    deleted = outcome(registry, "deleted");
+  }
+
+  /**
+   * Reconciles the persisted experiences of the context with the requested ones.
+   *
+   * @param context the {@link ExperienceContext}.
+   * @return the resulting experiences.
+   */
+  protected Collection<R> reconcile(P context) {
     Collection<R> existingExperiences = context.getExistingExperiences();
     Collection<R> updatedExperiences = context.getRequestExperiences();
-    Set<Long> deletedExperienceIds =
-        evaluateDeletedExperienceIds(existingExperiences, updatedExperiences);
-    if (!deletedExperienceIds.isEmpty()) {
-      context.getRepository().deleteAllById(deletedExperienceIds);
-    }
-    if (deletedExperienceIds.isEmpty() && existingExperiences.isEmpty()) {
-      updatedExperiences.forEach(resetId);
+    ExperienceDiff<R> diff =
+        ExperienceDiff.compute(existingExperiences, updatedExperiences, this::merge);
+    log.info(
+        "Updating User Experiences : {} inserted, {} updated, {} deleted",
+        diff.getInserted().size(),
+        diff.getUpdated().size(),
+        diff.getDeleted().size());
+    inserted.increment(diff.getInserted().size());
+    updated.increment(diff.getUpdated().size());
+    deleted.increment(diff.getDeleted().size());
+    if (!diff.getDeleted().isEmpty()) {
+      context.getRepository().deleteAll(diff.getDeleted());
     }
-    context.setUpdatedExperiences(updatedExperiences);
+    return diff.getExperiences();
   }
 
-  protected Set<Long> evaluateDeletedExperienceIds(
-      Collection<R> existingExp, Collection<R> updatedExp) {
-    return existingExp
-        .stream()
-        .map(Experience::getId)
-        .filter(isExperienceDeleted(updatedExp))
-        .collect(Collectors.toSet());
+  /**
+   * Counts reconciled experiences of this strategy.
+   *
+   * @param registry the {@link MeterRegistry}.
+   * @param outcome the reconcile outcome.
+   * @return the {@link Counter}.
+   */
+  private Counter outcome(MeterRegistry registry, String outcome) {
+    return Counter.builder(METRIC)
+        .description("Reconciled resume experiences")
+        .tag("strategy", getClass().getSimpleName())
+        .tag("outcome", outcome)
+        .register(registry);
+  }
+
+  /**
+   * Copies the state of a requested experience into the persisted one.
+   *
+   * @param source the requested experience.
+   * @param target the persisted experience.
+   * @return true if the state of the persisted experience changed.
+   */
+  protected abstract boolean merge(R source, R target);
+
+  /**
+   * Replaces the contents of the experiences of a resume.
+   *
+   * <p>The collection itself is kept, so that the persistence provider only writes the added and
+   * removed elements instead of recreating the whole collection.
+   *
+   * @param current the current experiences of the resume, may be null.
+   * @param experiences the new experiences.
+   * @param <T> the type of {@link Experience}.
+   * @return the collection to be set on the resume.
+   */
+  protected static <T> Set<T> replaceContents(Set<T> current, Collection<T> experiences) {
+    if (current == null) {
+      return new TreeSet<>(experiences);
+    }
+    current.clear();
+    current.addAll(experiences);
+    return current;
   }
 
-  private Predicate<Long> isExperienceDeleted(Collection<R> updatedExp) {
-    return id ->
-        updatedExp
-            .stream()
-            .map(Experience::getId)
-            .filter(eid -> eid != null)
-            .anyMatch(requestId -> !requestId.equals(id));
+  /**
+   * Whether two values differ.
+   *
+   * @param source the requested value.
+   * @param target the persisted value.
+   * @return true if the values differ.
+   */
+  protected static boolean differs(Object source, Object target) {
+    return !Objects.equals(source, target);
   }
 }
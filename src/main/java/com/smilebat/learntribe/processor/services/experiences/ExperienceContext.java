@@ -4,21 +4,20 @@ import com.smilebat.learntribe.dataaccess.jpa.entity.Experience;
 import com.smilebat.learntribe.dataaccess.jpa.entity.Resume;
 import com.smilebat.learntribe.dataaccess.jpa.entity.UserProfile;
 import java.util.Collection;
-import lombok.Getter;
-import lombok.Setter;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 /**
  * A Common context for all experience computations.
  *
+ * <p>Contexts are immutable and created per invocation, so that concurrent saves never share
+ * state.
+ *
  * <p>Copyright &copy; 2022 Smile .Bat
  *
  * @author Pai,Sai Nandan
  */
 public abstract class ExperienceContext<P extends Experience, Q extends JpaRepository> {
 
-  @Setter @Getter private Collection<P> updatedExperiences;
-
   /**
    * Abstract function for getting repository.
    *
@@ -0,0 +1,103 @@
+package com.smilebat.learntribe.processor.services.experiences;
+
+import com.smilebat.learntribe.dataaccess.jpa.entity.Experience;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import lombok.Getter;
+
+/**
+ * Reconciliation of the persisted experiences against the requested ones.
+ *
+ * <p>The persisted experiences are indexed by id once, each requested experience is then matched
+ * in constant time, making the reconciliation O(n+m). Matched experiences are merged into the
+ * persisted instances, so that only the rows whose state changed are written on flush.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@Getter
+public final class ExperienceDiff<R extends Experience> {
+
+  /** The requested experiences without a persisted counterpart, ids reset. */
+  private final List<R> inserted = new ArrayList<>();
+
+  /** The persisted experiences whose state changed. */
+  private final List<R> updated = new ArrayList<>();
+
+  /** The persisted experiences absent from the request. */
+  private final List<R> deleted = new ArrayList<>();
+
+  /** The resulting experiences, persisted instances where matched. */
+  private final List<R> experiences = new ArrayList<>();
+
+  private ExperienceDiff() {}
+
+  /**
+   * Computes the difference of the persisted and requested experiences.
+   *
+   * <p>A requested id which is not among the persisted experiences is treated as a new experience,
+   * it is never attached to a row of another resume. When an id is requested twice, the last one
+   * wins.
+   *
+   * @param existing the persisted experiences, may be null.
+   * @param requested the requested experiences, may be null.
+   * @param merge copies the state of the first experience into the second one, returning whether
+   *     any of it changed.
+   * @param <R> the type of {@link Experience}.
+   * @return the {@link ExperienceDiff}.
+   */
+  public static <R extends Experience> ExperienceDiff<R> compute(
+      Collection<R> existing, Collection<R> requested, BiPredicate<R, R> merge) {
+    final Collection<R> persisted = existing == null ? Collections.emptyList() : existing;
+    final Map<Long, R> byId = new HashMap<>(persisted.size() * 2);
+    for (R experience : persisted) {
+      byId.put(experience.getId(), experience);
+    }
+
+    final ExperienceDiff<R> diff = new ExperienceDiff<>();
+    final Set<Long> matched = new HashSet<>();
+    final Set<Long> dirty = new HashSet<>();
+    if (requested != null) {
+      for (R experience : requested) {
+        final Long id = experience.getId();
+        final R target = id == null ? null : byId.get(id);
+        if (target == null) {
+          experience.setId(null);
+          diff.inserted.add(experience);
+          diff.experiences.add(experience);
+          continue;
+        }
+        if (merge.test(experience, target) && dirty.add(id)) {
+          diff.updated.add(target);
+        }
+        if (matched.add(id)) {
+          diff.experiences.add(target);
+        }
+      }
+    }
+
+    for (R experience : persisted) {
+      if (!matched.contains(experience.getId())) {
+        diff.deleted.add(experience);
+      }
+    }
+    return diff;
+  }
+
+  /**
+   * Whether the reconciliation leaves the persisted experiences untouched.
+   *
+   * @return true if nothing is inserted, updated or deleted.
+   */
+  public boolean isEmpty() {
+    return inserted.isEmpty() && updated.isEmpty() && deleted.isEmpty();
+  }
+}
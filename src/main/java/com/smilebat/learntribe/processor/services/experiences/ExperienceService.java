@@ -1,6 +1,12 @@
 package com.smilebat.learntribe.processor.services.experiences;
 
+import com.smilebat.learntribe.dataaccess.ResumeEducationExperienceRepository;
+import com.smilebat.learntribe.dataaccess.ResumeSideProjectRepository;
+import com.smilebat.learntribe.dataaccess.ResumeWorkExperienceRepository;
 import com.smilebat.learntribe.dataaccess.jpa.entity.Resume;
+import com.smilebat.learntribe.processor.converters.ResumeEdExpConverter;
+import com.smilebat.learntribe.processor.converters.ResumeWorkExpConverter;
+import com.smilebat.learntribe.processor.converters.SideProjectsConverter;
 import com.smilebat.learntribe.processor.services.experiences.context.EducationExperienceContext;
 import com.smilebat.learntribe.processor.services.experiences.context.SideProjectContext;
 import com.smilebat.learntribe.processor.services.experiences.context.WorkExperienceContext;
@@ -15,6 +21,9 @@ import org.springframework.stereotype.Service;
 /**
  * Helper Service class for executing the contexts.
  *
+ * <p>A new context is created for every save and the strategies are stateless, so concurrent saves
+ * are safe.
+ *
  * <p>Copyright &copy; 2022 Smile .Bat
  *
  * @author Pai,Sai Nandan
@@ -23,15 +32,16 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ExperienceService {
   private final WorkExperienceStartegy workExperienceStrategy;
-
-  private final WorkExperienceContext workExperienceContext;
+  private final ResumeWorkExpConverter workExperienceConverter;
+  private final ResumeWorkExperienceRepository workExperienceRepository;
 
   private final EducationExperienceStartegy educationExperienceStartegy;
-  private final EducationExperienceContext educationExperienceContext;
-
-  private final SideProjectContext sideProjectContext;
+  private final ResumeEdExpConverter educationExperienceConverter;
+  private final ResumeEducationExperienceRepository educationExperienceRepository;
 
   private final SideProjectStrategy sideProjectStrategy;
+  private final SideProjectsConverter sideProjectsConverter;
+  private final ResumeSideProjectRepository sideProjectRepository;
 
   /**
    * Executes all experience contexts.
@@ -53,9 +63,12 @@ public class ExperienceService {
    * @param profile the {@link Resume}
    */
   private void saveWorkExperiences(ResumeBuilderRequest request, Resume profile) {
-    workExperienceContext.setProfile(profile);
-    workExperienceContext.setRequest(request.getWorkExperiences());
-    workExperienceStrategy.updateExperiences(workExperienceContext);
+    workExperienceStrategy.updateExperiences(
+        new WorkExperienceContext(
+            workExperienceConverter,
+            workExperienceRepository,
+            request.getWorkExperiences(),
+            profile));
   }
 
   /**
@@ -65,9 +78,12 @@ public class ExperienceService {
    * @param profile the {@link Resume}
    */
   private void saveEducationExperiences(ResumeBuilderRequest request, Resume profile) {
-    educationExperienceContext.setProfile(profile);
-    educationExperienceContext.setRequest(request.getEducationExperiences());
-    educationExperienceStartegy.updateExperiences(educationExperienceContext);
+    educationExperienceStartegy.updateExperiences(
+        new EducationExperienceContext(
+            educationExperienceConverter,
+            educationExperienceRepository,
+            request.getEducationExperiences(),
+            profile));
   }
 
   /**
@@ -77,8 +93,8 @@ public class ExperienceService {
    * @param profile the {@link Resume}
    */
   private void saveSideProjects(ResumeBuilderRequest request, Resume profile) {
-    sideProjectContext.setProfile(profile);
-    sideProjectContext.setRequest(request.getSideProjects());
-    sideProjectStrategy.updateExperiences(sideProjectContext);
+    sideProjectStrategy.updateExperiences(
+        new SideProjectContext(
+            sideProjectsConverter, sideProjectRepository, request.getSideProjects(), profile));
   }
 }
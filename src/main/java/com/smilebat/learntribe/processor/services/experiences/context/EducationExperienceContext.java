@@ -9,10 +9,6 @@ import com.smilebat.learntribe.processor.services.experiences.ExperienceContext;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Set;
-import lombok.Getter;
-import lombok.RequiredArgsConstructor;
-import lombok.Setter;
-import org.springframework.stereotype.Component;
 
 /**
  * Context for education experience
@@ -21,17 +17,33 @@ import org.springframework.stereotype.Component;
  *
  * @author Pai,Sai Nandan
  */
-@Component
-@RequiredArgsConstructor
 public final class EducationExperienceContext
     extends ExperienceContext<ResumeEducationExperience, ResumeEducationExperienceRepository> {
 
-  private final ResumeEdExpConverter converter;
   private final ResumeEducationExperienceRepository repository;
 
-  @Getter @Setter private Collection<EducationalExpRequest> request;
+  private final Set<ResumeEducationExperience> requestExperiences;
 
-  @Setter @Getter private Resume profile;
+  private final Resume profile;
+
+  /**
+   * Creates the context of a single save.
+   *
+   * @param converter the {@link ResumeEdExpConverter}.
+   * @param repository the {@link ResumeEducationExperienceRepository}.
+   * @param request the requested experiences, may be null.
+   * @param profile the {@link Resume} being saved.
+   */
+  public EducationExperienceContext(
+      ResumeEdExpConverter converter,
+      ResumeEducationExperienceRepository repository,
+      Collection<EducationalExpRequest> request,
+      Resume profile) {
+    this.repository = repository;
+    this.requestExperiences =
+        request == null ? Collections.emptySet() : converter.toEntities(request);
+    this.profile = profile;
+  }
 
   @Override
   public ResumeEducationExperienceRepository getRepository() {
@@ -40,11 +52,16 @@ public final class EducationExperienceContext
 
   @Override
   public Set<ResumeEducationExperience> getRequestExperiences() {
-    return request == null ? Collections.emptySet() : converter.toEntities(request);
+    return requestExperiences;
   }
 
   @Override
   public Set<ResumeEducationExperience> getExistingExperiences() {
     return profile.getEducationExperiences();
   }
+
+  @Override
+  public Resume getProfile() {
+    return profile;
+  }
 }
@@ -9,29 +9,41 @@ import com.smilebat.learntribe.processor.services.experiences.ExperienceContext;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Set;
-import lombok.Getter;
-import lombok.RequiredArgsConstructor;
-import lombok.Setter;
-import org.springframework.stereotype.Component;
 
 /**
- * Context for education experience
+ * Context for side projects
  *
  * <p>Copyright &copy; 2022 Smile .Bat
  *
  * @author Pai,Sai Nandan
  */
-@Component
-@RequiredArgsConstructor
 public final class SideProjectContext
     extends ExperienceContext<ResumeSideProject, ResumeSideProjectRepository> {
 
-  private final SideProjectsConverter converter;
   private final ResumeSideProjectRepository repository;
 
-  @Getter @Setter private Collection<SideProjectRequest> request;
+  private final Set<ResumeSideProject> requestExperiences;
 
-  @Setter @Getter private Resume profile;
+  private final Resume profile;
+
+  /**
+   * Creates the context of a single save.
+   *
+   * @param converter the {@link SideProjectsConverter}.
+   * @param repository the {@link ResumeSideProjectRepository}.
+   * @param request the requested experiences, may be null.
+   * @param profile the {@link Resume} being saved.
+   */
+  public SideProjectContext(
+      SideProjectsConverter converter,
+      ResumeSideProjectRepository repository,
+      Collection<SideProjectRequest> request,
+      Resume profile) {
+    this.repository = repository;
+    this.requestExperiences =
+        request == null ? Collections.emptySet() : converter.toEntities(request);
+    this.profile = profile;
+  }
 
   @Override
   public ResumeSideProjectRepository getRepository() {
@@ -40,11 +52,16 @@ public final class SideProjectContext
 
   @Override
   public Set<ResumeSideProject> getRequestExperiences() {
-    return request == null ? Collections.emptySet() : converter.toEntities(request);
+    return requestExperiences;
   }
 
   @Override
   public Set<ResumeSideProject> getExistingExperiences() {
     return profile.getSideProjects();
   }
+
+  @Override
+  public Resume getProfile() {
+    return profile;
+  }
 }
@@ -9,10 +9,6 @@ import com.smilebat.learntribe.processor.services.experiences.ExperienceContext;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Set;
-import lombok.Getter;
-import lombok.RequiredArgsConstructor;
-import lombok.Setter;
-import org.springframework.stereotype.Component;
 
 /**
  * Context for work experience
@@ -21,17 +17,33 @@ import org.springframework.stereotype.Component;
  *
  * @author Pai,Sai Nandan
  */
-@Component
-@RequiredArgsConstructor
 public final class WorkExperienceContext
     extends ExperienceContext<ResumeWorkExperience, ResumeWorkExperienceRepository> {
-  private final ResumeWorkExpConverter converter;
 
   private final ResumeWorkExperienceRepository repository;
 
-  @Setter @Getter private Collection<WorkExperienceRequest> request;
+  private final Set<ResumeWorkExperience> requestExperiences;
 
-  @Getter @Setter private Resume profile;
+  private final Resume profile;
+
+  /**
+   * Creates the context of a single save.
+   *
+   * @param converter the {@link ResumeWorkExpConverter}.
+   * @param repository the {@link ResumeWorkExperienceRepository}.
+   * @param request the requested experiences, may be null.
+   * @param profile the {@link Resume} being saved.
+   */
+  public WorkExperienceContext(
+      ResumeWorkExpConverter converter,
+      ResumeWorkExperienceRepository repository,
+      Collection<WorkExperienceRequest> request,
+      Resume profile) {
+    this.repository = repository;
+    this.requestExperiences =
+        request == null ? Collections.emptySet() : converter.toEntities(request);
+    this.profile = profile;
+  }
 
   @Override
   public ResumeWorkExperienceRepository getRepository() {
@@ -40,11 +52,16 @@ public final class WorkExperienceContext
 
   @Override
   public Set<ResumeWorkExperience> getRequestExperiences() {
-    return request == null ? Collections.emptySet() : converter.toEntities(request);
+    return requestExperiences;
   }
 
   @Override
   public Set<ResumeWorkExperience> getExistingExperiences() {
     return profile.getWorkExperiences();
   }
+
+  @Override
+  public Resume getProfile() {
+    return profile;
+  }
 }
@@ -1,9 +1,11 @@
 package com.smilebat.learntribe.processor.services.experiences.strategy;
 
-import com.smilebat.learntribe.dataaccess.jpa.entity.EducationExperience;
+import com.smilebat.learntribe.dataaccess.jpa.entity.Resume;
+import com.smilebat.learntribe.dataaccess.jpa.entity.ResumeEducationExperience;
 import com.smilebat.learntribe.processor.services.experiences.DefaultExperienceStrategy;
 import com.smilebat.learntribe.processor.services.experiences.context.EducationExperienceContext;
-import java.util.TreeSet;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -17,11 +19,39 @@ import org.springframework.stereotype.Service;
 @Slf4j
 @Service
 public final class EducationExperienceStartegy
-    extends DefaultExperienceStrategy<EducationExperienceContext, EducationExperience> {
+    extends DefaultExperienceStrategy<EducationExperienceContext, ResumeEducationExperience> {
+
+  /**
+   * Constructor.
+   *
+   * @param registry the {@link MeterRegistry}.
+   */
+  public EducationExperienceStartegy(MeterRegistry registry) {
+    super(registry);
+  }
+
   @Override
   public void updateExperiences(EducationExperienceContext context) {
     log.info("Updating Education Experiences for User Resumes");
-    super.updateExperiences(context);
-    context.getProfile().setEducationExperiences(new TreeSet<>(context.getUpdatedExperiences()));
+    final Collection<ResumeEducationExperience> experiences = reconcile(context);
+    final Resume profile = context.getProfile();
+    profile.setEducationExperiences(
+        replaceContents(profile.getEducationExperiences(), experiences));
+  }
+
+  @Override
+  protected boolean merge(ResumeEducationExperience source, ResumeEducationExperience target) {
+    final boolean changed =
+        differs(source.getDegree(), target.getDegree())
+            || differs(source.getCollegeName(), target.getCollegeName())
+            || differs(source.getFieldOfStudy(), target.getFieldOfStudy())
+            || differs(source.getDateOfCompletion(), target.getDateOfCompletion());
+    if (changed) {
+      target.setDegree(source.getDegree());
+      target.setCollegeName(source.getCollegeName());
+      target.setFieldOfStudy(source.getFieldOfStudy());
+      target.setDateOfCompletion(source.getDateOfCompletion());
+    }
+    return changed;
   }
 }
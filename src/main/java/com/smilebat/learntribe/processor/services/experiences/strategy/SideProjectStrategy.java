@@ -1,9 +1,11 @@
 package com.smilebat.learntribe.processor.services.experiences.strategy;
 
-import com.smilebat.learntribe.dataaccess.jpa.entity.SideProject;
+import com.smilebat.learntribe.dataaccess.jpa.entity.Resume;
+import com.smilebat.learntribe.dataaccess.jpa.entity.ResumeSideProject;
 import com.smilebat.learntribe.processor.services.experiences.DefaultExperienceStrategy;
 import com.smilebat.learntribe.processor.services.experiences.context.SideProjectContext;
-import java.util.TreeSet;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -17,12 +19,42 @@ import org.springframework.stereotype.Service;
 @Slf4j
 @Service
 public class SideProjectStrategy
-    extends DefaultExperienceStrategy<SideProjectContext, SideProject> {
+    extends DefaultExperienceStrategy<SideProjectContext, ResumeSideProject> {
+
+  /**
+   * Constructor.
+   *
+   * @param registry the {@link MeterRegistry}.
+   */
+  public SideProjectStrategy(MeterRegistry registry) {
+    super(registry);
+  }
 
   @Override
   public void updateExperiences(SideProjectContext context) {
     log.info("Updating Side Projects for User Resumes");
-    super.updateExperiences(context);
-    context.getProfile().setSideProjects(new TreeSet<>(context.getUpdatedExperiences()));
+    final Collection<ResumeSideProject> experiences = reconcile(context);
+    final Resume profile = context.getProfile();
+    profile.setSideProjects(replaceContents(profile.getSideProjects(), experiences));
+  }
+
+  @Override
+  protected boolean merge(ResumeSideProject source, ResumeSideProject target) {
+    final boolean changed =
+        differs(source.getName(), target.getName())
+            || differs(source.getDescription(), target.getDescription())
+            || differs(source.getUrl(), target.getUrl())
+            || differs(source.getSkills(), target.getSkills())
+            || differs(source.getStartDate(), target.getStartDate())
+            || differs(source.getEndDate(), target.getEndDate());
+    if (changed) {
+      target.setName(source.getName());
+      target.setDescription(source.getDescription());
+      target.setUrl(source.getUrl());
+      target.setSkills(source.getSkills());
+      target.setStartDate(source.getStartDate());
+      target.setEndDate(source.getEndDate());
+    }
+    return changed;
   }
 }
@@ -1,10 +1,11 @@
 package com.smilebat.learntribe.processor.services.experiences.strategy;
 
+import com.smilebat.learntribe.dataaccess.jpa.entity.Resume;
 import com.smilebat.learntribe.dataaccess.jpa.entity.ResumeWorkExperience;
-import com.smilebat.learntribe.dataaccess.jpa.entity.WorkExperience;
 import com.smilebat.learntribe.processor.services.experiences.DefaultExperienceStrategy;
 import com.smilebat.learntribe.processor.services.experiences.context.WorkExperienceContext;
-import java.util.Set;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
 import java.util.TreeSet;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -19,7 +20,17 @@ import org.springframework.stereotype.Service;
 @Slf4j
 @Service
 public final class WorkExperienceStartegy
-    extends DefaultExperienceStrategy<WorkExperienceContext, WorkExperience> {
+    extends DefaultExperienceStrategy<WorkExperienceContext, ResumeWorkExperience> {
+
+  /**
+   * Constructor.
+   *
+   * @param registry the {@link MeterRegistry}.
+   */
+  public WorkExperienceStartegy(MeterRegistry registry) {
+    super(registry);
+  }
+
   @Override
   public void updateExperiences(WorkExperienceContext context) {
     log.info("Updating Work Experiences for User Resumes");
@@ -27,16 +38,39 @@ public final class WorkExperienceStartegy
     evaluateCurrentRole(context);
   }
 
+  @Override
+  protected boolean merge(ResumeWorkExperience source, ResumeWorkExperience target) {
+    final boolean changed =
+        differs(source.getDesignation(), target.getDesignation())
+            || differs(source.getOrgName(), target.getOrgName())
+            || differs(source.getStartDate(), target.getStartDate())
+            || differs(source.getEndDate(), target.getEndDate())
+            || differs(source.getYears(), target.getYears())
+            || differs(source.getLocation(), target.getLocation())
+            || differs(source.getDescription(), target.getDescription());
+    if (changed) {
+      target.setDesignation(source.getDesignation());
+      target.setOrgName(source.getOrgName());
+      target.setStartDate(source.getStartDate());
+      target.setEndDate(source.getEndDate());
+      target.setYears(source.getYears());
+      target.setLocation(source.getLocation());
+      target.setDescription(source.getDescription());
+    }
+    return changed;
+  }
+
   private void evaluateExperiences(WorkExperienceContext context) {
-    super.updateExperiences(context);
-    context.getProfile().setWorkExperiences(new TreeSet<>(context.getUpdatedExperiences()));
+    final Collection<ResumeWorkExperience> experiences = reconcile(context);
+    final Resume profile = context.getProfile();
+    profile.setWorkExperiences(replaceContents(profile.getWorkExperiences(), experiences));
   }
 
   private void evaluateCurrentRole(WorkExperienceContext context) {
-    Set<ResumeWorkExperience> updatedExperiences = context.getProfile().getWorkExperiences();
-    if (updatedExperiences != null && !updatedExperiences.isEmpty()) {
-      final ResumeWorkExperience latestWorkExperience =
-          updatedExperiences.stream().findFirst().get();
+    TreeSet<ResumeWorkExperience> updatedExperiences =
+        new TreeSet<>(context.getProfile().getWorkExperiences());
+    if (!updatedExperiences.isEmpty()) {
+      final ResumeWorkExperience latestWorkExperience = updatedExperiences.first();
       context.getProfile().setCurrentDesignation(latestWorkExperience.getDesignation());
     }
   }
@@ -0,0 +1,207 @@
+package com.smilebat.learntribe.processor.services.extraction;
+
+import com.smilebat.learntribe.processor.dataaccess.ResumeTextRepository;
+import com.smilebat.learntribe.processor.dataaccess.jpa.entity.ResumeText;
+import com.smilebat.learntribe.processor.services.search.ResumeSearchService;
+import com.smilebat.learntribe.processor.services.storage.ContentStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Extracts the plain text of uploaded resumes on a bounded pool, off the request threads.
+ *
+ * <p>Extractions are keyed by content digest: a digest is queued at most once at a time, and
+ * digests that already have a {@link ResumeText} are skipped, so re-uploads of identical files
+ * are not parsed again. Jobs lost to a full queue or a restart are picked up by {@link #sweep()}.
+ * Once a digest has a text, the resumes of the users referencing it are reindexed for search.
+ *
+ * <p>The queue depth is exposed as {@code resume.extraction.queue}, the time from submission to
+ * start as {@code resume.extraction.lag} and the job duration as {@code
+ * resume.extraction.duration}, tagged with its outcome.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@Slf4j
+@Service
+public class ResumeTextExtractor {
+
+  private final ContentStore contentStore;
+  private final ResumeTextRepository repository;
+  private final ResumeSearchService searchService;
+  private final ThreadPoolTaskExecutor executor;
+  private final MeterRegistry registry;
+  private final int maxChars;
+  private final Set<String> queued = ConcurrentHashMap.newKeySet();
+  private final Timer lag;
+  private final Counter rejected;
+
+  /**
+   * Constructor.
+   *
+   * @param contentStore the {@link ContentStore}.
+   * @param repository the {@link ResumeTextRepository}.
+   * @param searchService the {@link ResumeSearchService}.
+   * @param executor the extraction executor.
+   * @param registry the {@link MeterRegistry}.
+   * @param maxChars the maximum number of stored characters per resume.
+   */
+  public ResumeTextExtractor(
+      ContentStore contentStore,
+      ResumeTextRepository repository,
+      ResumeSearchService searchService,
+      @Qualifier("textExtractionExecutor") ThreadPoolTaskExecutor executor,
+      MeterRegistry registry,
+      @Value("${resume.extraction.max-chars:1000000}") int maxChars) {
+    this.contentStore = contentStore;
+    this.repository = repository;
+    this.searchService = searchService;
+    this.executor = executor;
+    this.registry = registry;
+    this.maxChars = maxChars;
+    Gauge.builder("resume.extraction.queue", executor, ResumeTextExtractor::queueDepth)
+        .description("Extractions waiting for a thread")
+        .register(registry);
+    lag =
+        Timer.builder("resume.extraction.lag")
+            .description("Time from the submission of an extraction to its start")
+            .publishPercentileHistogram()
+            .register(registry);
+    rejected =
+        Counter.builder("resume.extraction.rejected")
+            .description("Extractions rejected by a full queue")
+            .register(registry);
+  }
+
+  /**
+   * Queues the extraction of a digest unless it is queued already.
+   *
+   * @param digest the content digest.
+   * @return true if the extraction was queued.
+   */
+  public boolean submit(String digest) {
+    if (digest == null || !queued.add(digest)) {
+      return false;
+    }
+    final long submitted = System.nanoTime();
+    try {
+      executor.execute(() -> run(digest, submitted));
+      return true;
+    } catch (TaskRejectedException e) {
+      queued.remove(digest);
+      rejected.increment();
+      log.warn("Extraction queue full, deferring {} to the next sweep", digest);
+      return false;
+    }
+  }
+
+  /** Queues the referenced digests without an extraction, as far as the queue has room. */
+  @Scheduled(
+      initialDelayString = "${resume.extraction.sweep-millis:600000}",
+      fixedDelayString = "${resume.extraction.sweep-millis:600000}")
+  public void sweep() {
+    final int room = executor.getThreadPoolExecutor().getQueue().remainingCapacity();
+    if (room == 0) {
+      return;
+    }
+    final List<String> digests = repository.findDigestsWithoutText(PageRequest.of(0, room));
+    final long submitted = digests.stream().filter(this::submit).count();
+    if (submitted > 0) {
+      log.info("Queued {} missing resume text extractions", submitted);
+    }
+  }
+
+  private void run(String digest, long submitted) {
+    lag.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+    final long start = System.nanoTime();
+    String outcome = "skipped";
+    try {
+      if (!repository.existsById(digest)) {
+        outcome = extract(digest);
+      }
+    } catch (RuntimeException e) {
+      outcome = "error";
+      log.warn("Unable to store the text of {}", digest, e);
+    } finally {
+      queued.remove(digest);
+      if (!"released".equals(outcome)) {
+        reindexOwners(digest);
+      }
+      Timer.builder("resume.extraction.duration")
+          .description("Resume text extractions")
+          .tag("outcome", outcome)
+          .publishPercentileHistogram()
+          .register(registry)
+          .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private void reindexOwners(String digest) {
+    try {
+      searchService.reindexOwners(digest);
+    } catch (RuntimeException e) {
+      log.warn("Unable to reindex the resumes referencing {}", digest, e);
+    }
+  }
+
+  private String extract(String digest) {
+    ResumeText text = new ResumeText();
+    text.setDigest(digest);
+    try (InputStream in = contentStore.read(digest);
+        PDDocument document = PDDocument.load(in, MemoryUsageSetting.setupTempFileOnly())) {
+      text.setPages(document.getNumberOfPages());
+      text.setText(sanitize(new PDFTextStripper().getText(document)));
+      text.setStatus(ResumeText.Status.EXTRACTED);
+    } catch (IOException e) {
+      if (!contentStore.contains(digest)) {
+        // released by a newer upload while queued
+        return "released";
+      }
+      log.info("Unable to extract the text of {}: {}", digest, e.getMessage());
+      text.setStatus(ResumeText.Status.FAILED);
+    }
+    text.setExtractedAt(Instant.now());
+    try {
+      repository.save(text);
+    } catch (DataIntegrityViolationException e) {
+      log.debug("Text of {} stored concurrently", digest);
+    }
+    if (!contentStore.contains(digest)) {
+      // collected while extracting, after the collector removed its text
+      repository.deleteByDigest(digest);
+      return "released";
+    }
+    return text.getStatus() == ResumeText.Status.EXTRACTED ? "extracted" : "failed";
+  }
+
+  private static int queueDepth(ThreadPoolTaskExecutor executor) {
+    return executor.getThreadPoolExecutor().getQueue().size();
+  }
+
+  private String sanitize(String text) {
+    final String stripped = text.replace("\u0000", "").trim();
+    return stripped.length() > maxChars ? stripped.substring(0, maxChars) : stripped;
+  }
+}
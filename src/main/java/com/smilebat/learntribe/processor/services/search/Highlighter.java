@@ -0,0 +1,191 @@
+package com.smilebat.learntribe.processor.services.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Marks the terms of a simple query string in stored text, the Lucene backend offering no
+ * highlighting of its own.
+ *
+ * <p>Text is split into letter and digit runs and compared case insensitively, approximating the
+ * default analyzer. Negated terms are not marked. Fragments are HTML escaped, with the matches
+ * wrapped in {@code <em>} tags.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+final class Highlighter {
+
+  static final String PRE_TAG = "<em>";
+  static final String POST_TAG = "</em>";
+  private static final String ELLIPSIS = "...";
+  private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+
+  private final Set<String> terms;
+  private final Set<String> prefixes;
+  private final int fragmentSize;
+  private final int maxFragments;
+
+  private Highlighter(Set<String> terms, Set<String> prefixes, int fragmentSize, int maxFragments) {
+    this.terms = terms;
+    this.prefixes = prefixes;
+    this.fragmentSize = fragmentSize;
+    this.maxFragments = maxFragments;
+  }
+
+  /**
+   * Creates a highlighter for the terms of a simple query string.
+   *
+   * @param query the simple query string.
+   * @param fragmentSize the approximate number of characters per fragment.
+   * @param maxFragments the maximum number of fragments per text.
+   * @return the {@link Highlighter}.
+   */
+  static Highlighter of(String query, int fragmentSize, int maxFragments) {
+    final Set<String> terms = new HashSet<>();
+    final Set<String> prefixes = new HashSet<>();
+    for (String token : query.trim().split("\\s+")) {
+      if (token.startsWith("-")) {
+        continue;
+      }
+      final boolean prefix = token.replaceAll("[\")~0-9]+$", "").endsWith("*");
+      final Matcher words = WORD.matcher(token.replaceAll("~[0-9]*$", ""));
+      String last = null;
+      while (words.find()) {
+        last = words.group().toLowerCase(Locale.ROOT);
+        terms.add(last);
+      }
+      if (prefix && last != null) {
+        prefixes.add(last);
+      }
+    }
+    return new Highlighter(terms, prefixes, fragmentSize, maxFragments);
+  }
+
+  /**
+   * Extracts the fragments of a text containing query terms.
+   *
+   * @param text the text, may be null.
+   * @return the highlighted fragments, empty when no term matches.
+   */
+  List<String> highlight(String text) {
+    if (text == null || text.isEmpty() || terms.isEmpty()) {
+      return Collections.emptyList();
+    }
+    final List<String> fragments = new ArrayList<>();
+    final Matcher words = WORD.matcher(text);
+    StringBuilder fragment = null;
+    int cursor = 0;
+    int end = 0;
+    while (words.find()) {
+      if (!matches(words.group())) {
+        continue;
+      }
+      if (fragment != null && words.end() > end) {
+        fragments.add(close(fragment, text, cursor, end));
+        fragment = null;
+        if (fragments.size() == maxFragments) {
+          return fragments;
+        }
+      }
+      if (fragment == null) {
+        final int start = startOf(text, words.start());
+        end = Math.max(words.end(), Math.min(text.length(), start + fragmentSize));
+        fragment = new StringBuilder(fragmentSize + 32);
+        if (start > 0) {
+          fragment.append(ELLIPSIS);
+        }
+        cursor = start;
+      }
+      escape(fragment, text, cursor, words.start());
+      fragment.append(PRE_TAG);
+      escape(fragment, text, words.start(), words.end());
+      fragment.append(POST_TAG);
+      cursor = words.end();
+    }
+    if (fragment != null) {
+      fragments.add(close(fragment, text, cursor, end));
+    }
+    return fragments;
+  }
+
+  private boolean matches(String word) {
+    final String term = word.toLowerCase(Locale.ROOT);
+    if (terms.contains(term)) {
+      return true;
+    }
+    for (String prefix : prefixes) {
+      if (term.startsWith(prefix)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Starts a fragment a quarter before the match, at a word boundary. */
+  private int startOf(String text, int match) {
+    int start = Math.max(0, match - fragmentSize / 4);
+    while (start > 0 && start < match && !Character.isWhitespace(text.charAt(start - 1))) {
+      start++;
+    }
+    return start;
+  }
+
+  private static String close(StringBuilder fragment, String text, int cursor, int end) {
+    int stop = end;
+    if (stop < text.length()) {
+      while (stop > cursor && !Character.isWhitespace(text.charAt(stop))) {
+        stop--;
+      }
+    }
+    escape(fragment, text, cursor, stop);
+    if (stop < text.length()) {
+      fragment.append(ELLIPSIS);
+    }
+    return fragment.toString().trim();
+  }
+
+  private static void escape(StringBuilder out, String text, int from, int to) {
+    boolean space = false;
+    for (int i = from; i < to; i++) {
+      final char c = text.charAt(i);
+      if (Character.isWhitespace(c)) {
+        space = true;
+        continue;
+      }
+      if (space) {
+        out.append(' ');
+        space = false;
+      }
+      switch (c) {
+        case '&':
+          out.append("&amp;");
+          break;
+        case '<':
+          out.append("&lt;");
+          break;
+        case '>':
+          out.append("&gt;");
+          break;
+        case '"':
+          out.append("&quot;");
+          break;
+        case '\'':
+          out.append("&#39;");
+          break;
+        default:
+          out.append(c);
+      }
+    }
+    if (space) {
+      out.append(' ');
+    }
+  }
+}
@@ -0,0 +1,96 @@
+package com.smilebat.learntribe.processor.services.search;
+
+import com.smilebat.learntribe.dataaccess.jpa.entity.Resume;
+import com.smilebat.learntribe.dataaccess.jpa.entity.ResumeEducationExperience;
+import com.smilebat.learntribe.dataaccess.jpa.entity.ResumeSideProject;
+import com.smilebat.learntribe.dataaccess.jpa.entity.ResumeWorkExperience;
+import org.hibernate.search.mapper.orm.mapping.HibernateOrmMappingConfigurationContext;
+import org.hibernate.search.mapper.orm.mapping.HibernateOrmSearchMappingConfigurer;
+import org.hibernate.search.mapper.pojo.automaticindexing.ReindexOnUpdate;
+import org.hibernate.search.mapper.pojo.mapping.definition.programmatic.ProgrammaticMappingConfigurationContext;
+import org.hibernate.search.mapper.pojo.mapping.definition.programmatic.TypeMappingStep;
+
+/**
+ * Programmatic Hibernate Search mapping of {@link Resume}, whose entities live in the data access
+ * module and cannot carry search annotations.
+ *
+ * <p>The experiences are embedded shallowly: they have no inverse side Hibernate Search could
+ * follow, so {@link ResumeSearchService#reindex(Resume)} reindexes the resume explicitly whenever
+ * its experiences are saved. The extracted upload text is added by {@link UploadTextBinder}.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+public class ResumeSearchMapping implements HibernateOrmSearchMappingConfigurer {
+
+  static final String INDEX = "resume";
+  static final String KEYCLOAK_ID = "keyCloakId";
+  static final String NAME = "name";
+  static final String DESIGNATION = "designation";
+  static final String ABOUT = "about";
+  static final String SKILLS = "skills";
+  static final String UPLOAD_TEXT = "uploadText";
+
+  /** The fields matched by a search, in the order they are highlighted. */
+  static final String[] SEARCH_FIELDS = {
+    NAME,
+    DESIGNATION,
+    SKILLS,
+    ABOUT,
+    "work.designation",
+    "work.orgName",
+    "work.description",
+    "education.degree",
+    "education.collegeName",
+    "education.fieldOfStudy",
+    "projects.name",
+    "projects.description",
+    "projects.skills",
+    UPLOAD_TEXT
+  };
+
+  @Override
+  public void configure(HibernateOrmMappingConfigurationContext context) {
+    ProgrammaticMappingConfigurationContext mapping = context.programmaticMapping();
+
+    TypeMappingStep resume = mapping.type(Resume.class);
+    resume.indexed().index(INDEX);
+    resume.binder(new UploadTextBinder());
+    resume.property("keyCloakId").keywordField(KEYCLOAK_ID);
+    resume.property("name").fullTextField(NAME);
+    resume.property("currentDesignation").fullTextField(DESIGNATION);
+    resume.property("about").fullTextField(ABOUT);
+    resume.property("skills").fullTextField(SKILLS);
+    resume
+        .property("workExperiences")
+        .indexedEmbedded("work")
+        .indexingDependency()
+        .reindexOnUpdate(ReindexOnUpdate.SHALLOW);
+    resume
+        .property("educationExperiences")
+        .indexedEmbedded("education")
+        .indexingDependency()
+        .reindexOnUpdate(ReindexOnUpdate.SHALLOW);
+    resume
+        .property("sideProjects")
+        .indexedEmbedded("projects")
+        .indexingDependency()
+        .reindexOnUpdate(ReindexOnUpdate.SHALLOW);
+
+    TypeMappingStep work = mapping.type(ResumeWorkExperience.class);
+    work.property("designation").fullTextField();
+    work.property("orgName").fullTextField();
+    work.property("description").fullTextField();
+
+    TypeMappingStep education = mapping.type(ResumeEducationExperience.class);
+    education.property("degree").fullTextField();
+    education.property("collegeName").fullTextField();
+    education.property("fieldOfStudy").fullTextField();
+
+    TypeMappingStep project = mapping.type(ResumeSideProject.class);
+    project.property("name").fullTextField();
+    project.property("description").fullTextField();
+    project.property("skills").fullTextField();
+  }
+}
@@ -0,0 +1,285 @@
+package com.smilebat.learntribe.processor.services.search;
+
+import com.smilebat.learntribe.dataaccess.jpa.entity.Resume;
+import com.smilebat.learntribe.learntribevalidator.learntribeexceptions.InvalidDataException;
+import com.smilebat.learntribe.processor.dataaccess.ResumeQueryRepository;
+import com.smilebat.learntribe.processor.dataaccess.ResumeTextRepository;
+import com.smilebat.learntribe.processor.models.ResumeSearchHit;
+import com.smilebat.learntribe.processor.models.ResumeSearchResponse;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.search.engine.search.common.BooleanOperator;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.work.SearchIndexingPlan;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Full text search over the resumes, their experiences and the text of the uploaded resume.
+ *
+ * <p>Hibernate Search indexes resumes as they are flushed. Changes it cannot observe are pushed
+ * explicitly: experiences saved through their own repositories, set based deletes and newly
+ * extracted upload texts.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResumeSearchService {
+
+  private static final String SEPARATOR = " - ";
+
+  private final EntityManagerFactory entityManagerFactory;
+
+  private final ResumeQueryRepository queryRepository;
+
+  private final ResumeTextRepository textRepository;
+
+  private final AtomicBoolean massIndexing = new AtomicBoolean();
+
+  @PersistenceContext private EntityManager entityManager;
+
+  @Value("${resume.search.max-page-size:50}")
+  private int maxPageSize;
+
+  @Value("${resume.search.highlight.fragment-size:160}")
+  private int fragmentSize;
+
+  @Value("${resume.search.highlight.max-fragments:3}")
+  private int maxFragments;
+
+  @Value("${resume.search.mass-indexer.threads:4}")
+  private int massIndexerThreads;
+
+  @Value("${resume.search.mass-indexer.batch-size:50}")
+  private int massIndexerBatchSize;
+
+  @Value("${resume.search.mass-indexer.id-fetch-size:1000}")
+  private int massIndexerIdFetchSize;
+
+  /**
+   * Reindexes a resume when the surrounding transaction commits.
+   *
+   * @param resume the {@link Resume}.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void reindex(Resume resume) {
+    indexingPlan().addOrUpdate(resume);
+  }
+
+  /**
+   * Removes a resume deleted with a set based statement from the index when the surrounding
+   * transaction commits.
+   *
+   * @param resumeId the resume id.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void purge(Long resumeId) {
+    indexingPlan().purge(Resume.class, resumeId, null);
+  }
+
+  /**
+   * Reindexes the resumes of the users referencing an uploaded content, once its text changed.
+   *
+   * @param digest the content digest.
+   */
+  @Transactional
+  public void reindexOwners(String digest) {
+    final SearchIndexingPlan plan = indexingPlan();
+    queryRepository.findWithExperiencesByContentDigest(digest).forEach(plan::addOrUpdate);
+  }
+
+  /**
+   * Searches resumes with a simple query string, e.g. {@code java +kafka -php "spring boot"}.
+   *
+   * @param query the simple query string, all terms are required unless combined with {@code |}.
+   * @param page the page number.
+   * @param limit the page size.
+   * @return the {@link ResumeSearchResponse}.
+   */
+  @Transactional(readOnly = true)
+  public ResumeSearchResponse search(String query, int page, int limit) {
+    if (query == null || query.isBlank()) {
+      throw new InvalidDataException("A search query is required");
+    }
+    if (page < 0 || limit <= 0 || limit > maxPageSize) {
+      throw new InvalidDataException("Between 1 and " + maxPageSize + " resumes per page");
+    }
+    if (page > Integer.MAX_VALUE / limit) {
+      throw new InvalidDataException("Page " + page + " is out of range");
+    }
+    final SearchResult<List<?>> result =
+        Search.session(entityManager)
+            .search(Resume.class)
+            .select(f -> f.composite(f.entity(), f.score()))
+            .where(
+                f ->
+                    f.simpleQueryString()
+                        .fields(ResumeSearchMapping.SEARCH_FIELDS)
+                        .matching(query)
+                        .defaultOperator(BooleanOperator.AND))
+            .fetch(page * limit, limit);
+
+    final List<List<?>> hits = result.hits();
+    final List<ResumeSearchHit> responses = new ArrayList<>(hits.size());
+    if (!hits.isEmpty()) {
+      final List<Resume> resumes =
+          hits.stream().map(hit -> (Resume) hit.get(0)).collect(Collectors.toList());
+      // initializes the experiences of the loaded resumes in three statements
+      queryRepository.findWithExperiencesByIdIn(
+          resumes.stream().map(Resume::getId).collect(Collectors.toList()));
+      final Map<String, String> texts = findUploadTexts(resumes);
+      final Highlighter highlighter = Highlighter.of(query, fragmentSize, maxFragments);
+      for (List<?> hit : hits) {
+        final Resume resume = (Resume) hit.get(0);
+        responses.add(
+            toHit(resume, (Float) hit.get(1), texts.get(resume.getKeyCloakId()), highlighter));
+      }
+    }
+    ResumeSearchResponse response = new ResumeSearchResponse();
+    response.setTotal(result.total().hitCount());
+    response.setPage(page);
+    response.setLimit(limit);
+    response.setHits(responses);
+    return response;
+  }
+
+  /**
+   * Rebuilds the index from the database in the background, streaming the resume ids through a
+   * cursor and loading and indexing them on parallel threads.
+   *
+   * @return false if a rebuild is running already.
+   */
+  public boolean startMassIndexing() {
+    if (!massIndexing.compareAndSet(false, true)) {
+      return false;
+    }
+    log.info("Starting resume mass indexing");
+    Search.mapping(entityManagerFactory)
+        .scope(Resume.class)
+        .massIndexer()
+        .threadsToLoadObjects(massIndexerThreads)
+        .batchSizeToLoadObjects(massIndexerBatchSize)
+        .idFetchSize(massIndexerIdFetchSize)
+        .start()
+        .whenComplete(
+            (ignored, failure) -> {
+              massIndexing.set(false);
+              if (failure != null) {
+                log.error("Resume mass indexing failed", failure);
+              } else {
+                log.info("Resume mass indexing finished");
+              }
+            });
+    return true;
+  }
+
+  private SearchIndexingPlan indexingPlan() {
+    return Search.session(entityManager).indexingPlan();
+  }
+
+  private Map<String, String> findUploadTexts(Collection<Resume> resumes) {
+    final List<String> keyCloakIds =
+        resumes
+            .stream()
+            .map(Resume::getKeyCloakId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .collect(Collectors.toList());
+    if (keyCloakIds.isEmpty()) {
+      return Map.of();
+    }
+    return textRepository
+        .findTextsByKeycloakIdIn(keyCloakIds)
+        .stream()
+        .collect(
+            Collectors.toMap(
+                ResumeTextRepository.OwnerText::getKeycloakId,
+                ResumeTextRepository.OwnerText::getText,
+                (first, second) -> first));
+  }
+
+  private static ResumeSearchHit toHit(
+      Resume resume, Float score, String uploadText, Highlighter highlighter) {
+    final Map<String, List<String>> highlights = new LinkedHashMap<>();
+    putHighlights(highlights, "name", highlighter.highlight(resume.getName()));
+    putHighlights(
+        highlights, "currentDesignation", highlighter.highlight(resume.getCurrentDesignation()));
+    putHighlights(highlights, "skills", highlighter.highlight(resume.getSkills()));
+    putHighlights(highlights, "about", highlighter.highlight(resume.getAbout()));
+    putHighlights(
+        highlights,
+        "workExperiences",
+        highlight(
+            highlighter,
+            resume.getWorkExperiences(),
+            exp -> join(exp.getDesignation(), exp.getOrgName(), exp.getDescription())));
+    putHighlights(
+        highlights,
+        "educationExperiences",
+        highlight(
+            highlighter,
+            resume.getEducationExperiences(),
+            exp -> join(exp.getDegree(), exp.getFieldOfStudy(), exp.getCollegeName())));
+    putHighlights(
+        highlights,
+        "sideProjects",
+        highlight(
+            highlighter,
+            resume.getSideProjects(),
+            project -> join(project.getName(), project.getSkills(), project.getDescription())));
+    putHighlights(highlights, "uploadText", highlighter.highlight(uploadText));
+
+    ResumeSearchHit hit = new ResumeSearchHit();
+    hit.setResumeId(resume.getId());
+    hit.setKeyCloakId(resume.getKeyCloakId());
+    hit.setName(resume.getName());
+    hit.setCurrentDesignation(resume.getCurrentDesignation());
+    hit.setScore(score == null ? 0F : score);
+    hit.setHighlights(highlights);
+    return hit;
+  }
+
+  private static <T> List<String> highlight(
+      Highlighter highlighter, Collection<T> experiences, Function<T, String> text) {
+    if (experiences == null) {
+      return List.of();
+    }
+    return experiences
+        .stream()
+        .map(text)
+        .map(highlighter::highlight)
+        .flatMap(List::stream)
+        .collect(Collectors.toList());
+  }
+
+  private static void putHighlights(
+      Map<String, List<String>> highlights, String field, List<String> fragments) {
+    if (!fragments.isEmpty()) {
+      highlights.put(field, fragments);
+    }
+  }
+
+  private static String join(String... values) {
+    return Stream.of(values).filter(Objects::nonNull).collect(Collectors.joining(SEPARATOR));
+  }
+}
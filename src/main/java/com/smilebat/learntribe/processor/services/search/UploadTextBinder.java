@@ -0,0 +1,63 @@
+package com.smilebat.learntribe.processor.services.search;
+
+import com.smilebat.learntribe.dataaccess.jpa.entity.Resume;
+import com.smilebat.learntribe.processor.dataaccess.jpa.entity.ResumeContent;
+import com.smilebat.learntribe.processor.dataaccess.jpa.entity.ResumeText;
+import org.hibernate.Session;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.mapper.orm.HibernateOrmExtension;
+import org.hibernate.search.mapper.pojo.bridge.TypeBridge;
+import org.hibernate.search.mapper.pojo.bridge.binding.TypeBindingContext;
+import org.hibernate.search.mapper.pojo.bridge.mapping.programmatic.TypeBinder;
+import org.hibernate.search.mapper.pojo.bridge.runtime.TypeBridgeWriteContext;
+
+/**
+ * Indexes the text extracted from the uploaded resume of the owner of a {@link Resume}.
+ *
+ * <p>The text is not reachable through an association, so it is looked up through the session
+ * while indexing. Changes of the text are not detected automatically, the extractor reindexes
+ * the owners of a digest once its text is stored.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+class UploadTextBinder implements TypeBinder {
+
+  @Override
+  public void bind(TypeBindingContext context) {
+    context.dependencies().use("keyCloakId");
+    IndexFieldReference<String> field =
+        context
+            .indexSchemaElement()
+            .field(ResumeSearchMapping.UPLOAD_TEXT, f -> f.asString().analyzer("default"))
+            .toReference();
+    context.bridge(Resume.class, new Bridge(field));
+  }
+
+  private static final class Bridge implements TypeBridge<Resume> {
+
+    private final IndexFieldReference<String> field;
+
+    private Bridge(IndexFieldReference<String> field) {
+      this.field = field;
+    }
+
+    @Override
+    public void write(DocumentElement target, Resume resume, TypeBridgeWriteContext context) {
+      if (resume.getKeyCloakId() == null) {
+        return;
+      }
+      Session session = context.extension(HibernateOrmExtension.get()).session();
+      ResumeContent content = session.get(ResumeContent.class, resume.getKeyCloakId());
+      if (content == null) {
+        return;
+      }
+      ResumeText text = session.get(ResumeText.class, content.getDigest());
+      if (text != null && text.getText() != null) {
+        target.addValue(field, text.getText());
+      }
+    }
+  }
+}
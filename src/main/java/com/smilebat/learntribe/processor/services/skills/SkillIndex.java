@@ -0,0 +1,220 @@
+package com.smilebat.learntribe.processor.services.skills;
+
+import com.smilebat.learntribe.dataaccess.jpa.entity.Resume;
+import com.smilebat.learntribe.dataaccess.jpa.entity.ResumeSideProject;
+import com.smilebat.learntribe.learntribevalidator.learntribeexceptions.InvalidDataException;
+import com.smilebat.learntribe.processor.dataaccess.ResumeSkillsRepository;
+import com.smilebat.learntribe.processor.models.SkillMatchResponse;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * In memory inverted index from normalized skills to the resumes listing them.
+ *
+ * <p>The skills of a resume are its own and those of its side projects. Each skill maps to a
+ * compressed bitmap of resume ids, so boolean skill queries are answered by bitmap operations
+ * without touching the database, see {@link SkillQuery}.
+ *
+ * <p>The index is built on startup and rebuilt periodically, picking up writes of other
+ * instances. Resume writes of this instance are applied once committed. Writes committed while a
+ * rebuild runs are replayed onto the rebuilt index before it replaces the current one.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@Slf4j
+@Component
+public class SkillIndex {
+
+  private final ResumeSkillsRepository repository;
+  private final TransactionTemplate transactionTemplate;
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  @Value("${resume.skills.index.max-limit:1000}")
+  private int maxLimit = 1000;
+
+  private SkillPostings postings = new SkillPostings();
+  private List<Consumer<SkillPostings>> pending;
+  private volatile boolean ready;
+
+  /**
+   * Creates the index.
+   *
+   * @param repository the {@link ResumeSkillsRepository}.
+   * @param transactionManager the {@link PlatformTransactionManager}.
+   */
+  public SkillIndex(
+      ResumeSkillsRepository repository, PlatformTransactionManager transactionManager) {
+    this.repository = repository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+  }
+
+  /**
+   * Whether the index has been built.
+   *
+   * @return true once the first build completed.
+   */
+  public boolean isReady() {
+    return ready;
+  }
+
+  /**
+   * Finds the resumes matching a boolean skill query.
+   *
+   * @param query the query, e.g. {@code Java AND Kafka AND NOT PHP}.
+   * @param limit the maximum number of resume ids returned.
+   * @return the {@link SkillMatchResponse} with the number of matches and the most recent ids.
+   */
+  public SkillMatchResponse match(String query, int limit) {
+    if (limit < 0 || limit > maxLimit) {
+      throw new InvalidDataException("Between 0 and " + maxLimit + " resumes can be requested");
+    }
+    final SkillQuery parsed = SkillQuery.parse(query);
+    final List<Long> resumeIds = new ArrayList<>(Math.min(limit, 100));
+    final long count;
+    lock.readLock().lock();
+    try {
+      final RoaringBitmap matches = parsed.evaluate(postings);
+      count = matches.getLongCardinality();
+      final IntIterator ids = matches.getReverseIntIterator();
+      while (ids.hasNext() && resumeIds.size() < limit) {
+        resumeIds.add((long) ids.next());
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    SkillMatchResponse response = new SkillMatchResponse();
+    response.setCount(count);
+    response.setResumeIds(resumeIds);
+    return response;
+  }
+
+  /**
+   * Updates the skills of a resume once the surrounding transaction committed.
+   *
+   * @param resume the saved {@link Resume}, side projects initialized.
+   */
+  public void updateAfterCommit(Resume resume) {
+    final long resumeId = resume.getId();
+    final Set<String> skills = new HashSet<>();
+    SkillPostings.split(resume.getSkills(), skills);
+    if (resume.getSideProjects() != null) {
+      for (ResumeSideProject project : resume.getSideProjects()) {
+        SkillPostings.split(project.getSkills(), skills);
+      }
+    }
+    afterCommit(current -> current.put(resumeId, skills));
+  }
+
+  /**
+   * Removes a resume once the surrounding transaction committed.
+   *
+   * @param resumeId the resume id.
+   */
+  public void removeAfterCommit(long resumeId) {
+    afterCommit(current -> current.remove(resumeId));
+  }
+
+  private void afterCommit(Consumer<SkillPostings> update) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      apply(update);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            apply(update);
+          }
+        });
+  }
+
+  /**
+   * Applies an update to the index, and to the index being rebuilt if any.
+   *
+   * @param update the update.
+   */
+  void apply(Consumer<SkillPostings> update) {
+    lock.writeLock().lock();
+    try {
+      update.accept(postings);
+      if (pending != null) {
+        pending.add(update);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** Rebuilds the index from the database, streaming the skills through a cursor. */
+  @Scheduled(
+      initialDelayString = "${resume.skills.index.initial-delay-millis:0}",
+      fixedDelayString = "${resume.skills.index.rebuild-millis:3600000}")
+  public synchronized void rebuild() {
+    final long start = System.nanoTime();
+    swap(null, new ArrayList<>());
+    final SkillPostings fresh = new SkillPostings();
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> {
+            try (Stream<ResumeSkillsRepository.ResumeSkills> resumes =
+                repository.streamResumeSkills()) {
+              resumes.forEach(resume -> fresh.add(resume.getId(), resume.getSkills()));
+            }
+            try (Stream<ResumeSkillsRepository.ResumeSkills> projects =
+                repository.streamSideProjectSkills()) {
+              projects.forEach(project -> fresh.add(project.getId(), project.getSkills()));
+            }
+          });
+    } catch (RuntimeException e) {
+      swap(null, null);
+      throw e;
+    }
+    fresh.optimize();
+    swap(fresh, null);
+    ready = true;
+    log.info(
+        "Indexed {} skills of {} resumes in {} ms",
+        fresh.skills(),
+        fresh.size(),
+        (System.nanoTime() - start) / 1_000_000);
+  }
+
+  /**
+   * Replaces the postings and the pending updates.
+   *
+   * @param rebuilt the rebuilt postings replacing the current ones after replaying the pending
+   *     updates, or null to keep the current ones.
+   * @param next the pending updates from now on, null when no rebuild runs.
+   */
+  private void swap(SkillPostings rebuilt, List<Consumer<SkillPostings>> next) {
+    lock.writeLock().lock();
+    try {
+      if (rebuilt != null) {
+        pending.forEach(update -> update.accept(rebuilt));
+        postings = rebuilt;
+      }
+      pending = next;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+}
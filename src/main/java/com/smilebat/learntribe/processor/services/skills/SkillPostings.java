@@ -0,0 +1,171 @@
+package com.smilebat.learntribe.processor.services.skills;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import org.roaringbitmap.RoaringBitmap;
+
+/**
+ * Postings of the skill index, one compressed bitmap of resume ids per normalized skill.
+ *
+ * <p>Not thread safe, {@link SkillIndex} guards every access. The bitmaps returned by {@link
+ * #get(String)} and {@link #all()} are live and must not be modified.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+class SkillPostings {
+
+  private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+  private final Map<String, RoaringBitmap> postings = new HashMap<>();
+  private final Map<Integer, String[]> skillsByResume = new HashMap<>();
+  private final RoaringBitmap all = new RoaringBitmap();
+
+  /**
+   * Normalizes a skill to its index key.
+   *
+   * @param skill the skill.
+   * @return the lowercase skill with single spaces, empty when blank.
+   */
+  static String normalize(String skill) {
+    return skill.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Splits comma separated skills into normalized skills.
+   *
+   * @param skills the comma separated skills, may be null.
+   * @param target the set collecting the skills.
+   */
+  static void split(String skills, Set<String> target) {
+    if (skills == null) {
+      return;
+    }
+    for (String skill : skills.split(",")) {
+      final String normalized = normalize(skill);
+      if (!normalized.isEmpty()) {
+        target.add(normalized);
+      }
+    }
+  }
+
+  /**
+   * Adds skills to a resume, keeping the skills it has already.
+   *
+   * @param resumeId the resume id.
+   * @param skills the comma separated skills.
+   */
+  void add(long resumeId, String skills) {
+    final int doc = toDoc(resumeId);
+    final Set<String> merged = new LinkedHashSet<>();
+    final String[] current = skillsByResume.get(doc);
+    if (current != null) {
+      merged.addAll(Set.of(current));
+    }
+    split(skills, merged);
+    link(doc, merged);
+  }
+
+  /**
+   * Replaces the skills of a resume.
+   *
+   * @param resumeId the resume id.
+   * @param skills the normalized skills.
+   */
+  void put(long resumeId, Set<String> skills) {
+    link(toDoc(resumeId), skills);
+  }
+
+  private void link(int doc, Set<String> skills) {
+    final String[] previous = skillsByResume.get(doc);
+    if (previous != null) {
+      for (String skill : previous) {
+        if (!skills.contains(skill)) {
+          unlink(skill, doc);
+        }
+      }
+    }
+    for (String skill : skills) {
+      postings.computeIfAbsent(skill, k -> new RoaringBitmap()).add(doc);
+    }
+    skillsByResume.put(doc, skills.toArray(new String[0]));
+    all.add(doc);
+  }
+
+  /**
+   * Removes a resume.
+   *
+   * @param resumeId the resume id.
+   */
+  void remove(long resumeId) {
+    final int doc = toDoc(resumeId);
+    final String[] previous = skillsByResume.remove(doc);
+    if (previous != null) {
+      for (String skill : previous) {
+        unlink(skill, doc);
+      }
+    }
+    all.remove(doc);
+  }
+
+  private void unlink(String skill, int doc) {
+    final RoaringBitmap docs = postings.get(skill);
+    if (docs != null) {
+      docs.remove(doc);
+      if (docs.isEmpty()) {
+        postings.remove(skill);
+      }
+    }
+  }
+
+  /**
+   * Gets the resumes having a skill.
+   *
+   * @param skill the normalized skill.
+   * @return the live bitmap, empty when no resume has the skill.
+   */
+  RoaringBitmap get(String skill) {
+    return postings.getOrDefault(skill, EMPTY);
+  }
+
+  /**
+   * Gets all indexed resumes.
+   *
+   * @return the live bitmap.
+   */
+  RoaringBitmap all() {
+    return all;
+  }
+
+  /**
+   * Number of indexed resumes.
+   *
+   * @return the number of resumes.
+   */
+  int size() {
+    return skillsByResume.size();
+  }
+
+  /**
+   * Number of distinct skills.
+   *
+   * @return the number of skills.
+   */
+  int skills() {
+    return postings.size();
+  }
+
+  /** Compresses runs of consecutive ids, once after a bulk load. */
+  void optimize() {
+    postings.values().forEach(RoaringBitmap::runOptimize);
+    all.runOptimize();
+  }
+
+  private static int toDoc(long resumeId) {
+    return Math.toIntExact(resumeId);
+  }
+}
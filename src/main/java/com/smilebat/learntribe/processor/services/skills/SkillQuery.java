@@ -0,0 +1,254 @@
+package com.smilebat.learntribe.processor.services.skills;
+
+import com.smilebat.learntribe.learntribevalidator.learntribeexceptions.InvalidDataException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+/**
+ * Boolean query over skills, e.g. {@code Java AND (Kafka OR "Spring Boot") AND NOT PHP}.
+ *
+ * <p>{@code AND}, {@code OR} and {@code NOT} are case insensitive, {@code AND} binds tighter than
+ * {@code OR}. Consecutive words form one skill, quotes are needed only for skills containing an
+ * operator or a parenthesis. Skills are normalized like the indexed ones. Queries are bounded to
+ * 64 skills and 32 levels of parentheses and negations.
+ *
+ * <p>Conjunctions intersect the smallest bitmaps first and subtract negated operands instead of
+ * complementing them, so a query only touches the postings it names.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+abstract class SkillQuery {
+
+  private static final int MAX_SKILLS = 64;
+
+  private static final int MAX_DEPTH = 32;
+
+  private static final Pattern TOKEN = Pattern.compile("\\s*(\\(|\\)|\"[^\"]*\"?|[^\\s()\"]+)");
+
+  /**
+   * Evaluates the query.
+   *
+   * @param postings the {@link SkillPostings}.
+   * @return the matching resumes, possibly a live posting that must not be modified.
+   */
+  abstract RoaringBitmap evaluate(SkillPostings postings);
+
+  /**
+   * Parses a query.
+   *
+   * @param query the query.
+   * @return the {@link SkillQuery}.
+   * @throws InvalidDataException if the query is malformed.
+   */
+  static SkillQuery parse(String query) {
+    if (query == null || query.isBlank()) {
+      throw new InvalidDataException("A skill query is required");
+    }
+    final List<String> tokens = new ArrayList<>();
+    final Matcher matcher = TOKEN.matcher(query);
+    while (matcher.lookingAt()) {
+      tokens.add(matcher.group(1));
+      matcher.region(matcher.end(), query.length());
+    }
+    if (!query.substring(matcher.regionStart()).isBlank()) {
+      throw invalid(query);
+    }
+    final Parser parser = new Parser(query, tokens);
+    final SkillQuery parsed = parser.or();
+    if (parser.position != tokens.size()) {
+      throw invalid(query);
+    }
+    return parsed;
+  }
+
+  private static InvalidDataException invalid(String query) {
+    return new InvalidDataException("Invalid skill query: " + query);
+  }
+
+  /** Recursive descent parser over the tokens of a query. */
+  private static final class Parser {
+    private final String query;
+    private final List<String> tokens;
+    private int position;
+    private int skills;
+    private int depth;
+
+    private Parser(String query, List<String> tokens) {
+      this.query = query;
+      this.tokens = tokens;
+    }
+
+    private SkillQuery or() {
+      final List<SkillQuery> operands = new ArrayList<>();
+      operands.add(and());
+      while (accept("OR")) {
+        operands.add(and());
+      }
+      return operands.size() == 1 ? operands.get(0) : new Or(operands);
+    }
+
+    private SkillQuery and() {
+      final List<SkillQuery> included = new ArrayList<>();
+      final List<SkillQuery> excluded = new ArrayList<>();
+      do {
+        final SkillQuery operand = unary();
+        if (operand instanceof Not) {
+          excluded.add(((Not) operand).operand);
+        } else {
+          included.add(operand);
+        }
+      } while (accept("AND"));
+      if (excluded.isEmpty() && included.size() == 1) {
+        return included.get(0);
+      }
+      if (included.isEmpty() && excluded.size() == 1) {
+        return new Not(excluded.get(0));
+      }
+      return new And(included, excluded);
+    }
+
+    private SkillQuery unary() {
+      if (accept("NOT")) {
+        final SkillQuery operand = nested(this::unary);
+        return operand instanceof Not ? ((Not) operand).operand : new Not(operand);
+      }
+      if (accept("(")) {
+        final SkillQuery nested = nested(this::or);
+        if (!accept(")")) {
+          throw invalid(query);
+        }
+        return nested;
+      }
+      return term();
+    }
+
+    private SkillQuery nested(Supplier<SkillQuery> operand) {
+      if (++depth > MAX_DEPTH) {
+        throw invalid(query);
+      }
+      final SkillQuery nested = operand.get();
+      depth--;
+      return nested;
+    }
+
+    private SkillQuery term() {
+      final StringBuilder skill = new StringBuilder();
+      if (position < tokens.size() && tokens.get(position).startsWith("\"")) {
+        skill.append(tokens.get(position++).replace("\"", ""));
+      } else {
+        while (position < tokens.size() && isWord(tokens.get(position))) {
+          skill.append(tokens.get(position++)).append(' ');
+        }
+      }
+      final String normalized = SkillPostings.normalize(skill.toString());
+      if (normalized.isEmpty() || ++skills > MAX_SKILLS) {
+        throw invalid(query);
+      }
+      return new Term(normalized);
+    }
+
+    private boolean accept(String expected) {
+      if (position < tokens.size() && tokens.get(position).equalsIgnoreCase(expected)) {
+        position++;
+        return true;
+      }
+      return false;
+    }
+
+    private static boolean isWord(String token) {
+      switch (token.toUpperCase(Locale.ROOT)) {
+        case "AND":
+        case "OR":
+        case "NOT":
+        case "(":
+        case ")":
+          return false;
+        default:
+          return !token.startsWith("\"");
+      }
+    }
+  }
+
+  /** Resumes having one skill. */
+  private static final class Term extends SkillQuery {
+    private final String skill;
+
+    private Term(String skill) {
+      this.skill = skill;
+    }
+
+    @Override
+    RoaringBitmap evaluate(SkillPostings postings) {
+      return postings.get(skill);
+    }
+  }
+
+  /** Resumes matching all included and none of the excluded operands. */
+  private static final class And extends SkillQuery {
+    private final List<SkillQuery> included;
+    private final List<SkillQuery> excluded;
+
+    private And(List<SkillQuery> included, List<SkillQuery> excluded) {
+      this.included = included;
+      this.excluded = excluded;
+    }
+
+    @Override
+    RoaringBitmap evaluate(SkillPostings postings) {
+      final List<RoaringBitmap> operands = new ArrayList<>(included.size());
+      for (SkillQuery operand : included) {
+        operands.add(operand.evaluate(postings));
+      }
+      operands.sort(Comparator.comparingInt(RoaringBitmap::getCardinality));
+      RoaringBitmap result = operands.isEmpty() ? postings.all() : operands.get(0);
+      for (int i = 1; i < operands.size() && !result.isEmpty(); i++) {
+        result = RoaringBitmap.and(result, operands.get(i));
+      }
+      for (int i = 0; i < excluded.size() && !result.isEmpty(); i++) {
+        result = RoaringBitmap.andNot(result, excluded.get(i).evaluate(postings));
+      }
+      return result;
+    }
+  }
+
+  /** Resumes matching any operand. */
+  private static final class Or extends SkillQuery {
+    private final List<SkillQuery> operands;
+
+    private Or(List<SkillQuery> operands) {
+      this.operands = operands;
+    }
+
+    @Override
+    RoaringBitmap evaluate(SkillPostings postings) {
+      final RoaringBitmap[] bitmaps = new RoaringBitmap[operands.size()];
+      for (int i = 0; i < bitmaps.length; i++) {
+        bitmaps[i] = operands.get(i).evaluate(postings);
+      }
+      return FastAggregation.or(bitmaps);
+    }
+  }
+
+  /** Resumes not matching the operand. */
+  private static final class Not extends SkillQuery {
+    private final SkillQuery operand;
+
+    private Not(SkillQuery operand) {
+      this.operand = operand;
+    }
+
+    @Override
+    RoaringBitmap evaluate(SkillPostings postings) {
+      return RoaringBitmap.andNot(postings.all(), operand.evaluate(postings));
+    }
+  }
+}
@@ -0,0 +1,141 @@
+package com.smilebat.learntribe.processor.services.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encoding of the bytes held by a {@link ContentStore}.
+ *
+ * <p>The names are HTTP content codings, so stored bytes can be sent as is to clients accepting
+ * the coding. gzip is the JDK deflate in the container format every HTTP client understands.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+public enum ContentCodec {
+
+  /** Bytes stored as uploaded. */
+  IDENTITY("identity", ""),
+
+  /** Bytes stored gzip compressed. */
+  GZIP("gzip", ".gz");
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private final String contentEncoding;
+  private final String suffix;
+
+  ContentCodec(String contentEncoding, String suffix) {
+    this.contentEncoding = contentEncoding;
+    this.suffix = suffix;
+  }
+
+  /**
+   * HTTP content coding of the codec.
+   *
+   * @return the content coding.
+   */
+  public String getContentEncoding() {
+    return contentEncoding;
+  }
+
+  /**
+   * Suffix of the files holding content in this codec.
+   *
+   * @return the suffix, empty for {@link #IDENTITY}.
+   */
+  String getSuffix() {
+    return suffix;
+  }
+
+  /**
+   * Wraps a stream of encoded bytes into a stream of decoded bytes.
+   *
+   * @param in the encoded {@link InputStream}.
+   * @return the decoded {@link InputStream}.
+   * @throws IOException on error.
+   */
+  public InputStream decode(InputStream in) throws IOException {
+    return this == GZIP ? new GZIPInputStream(in, BUFFER_SIZE) : in;
+  }
+
+  /**
+   * Wraps a stream receiving encoded bytes into a stream accepting decoded bytes.
+   *
+   * @param out the {@link OutputStream} receiving the encoded bytes.
+   * @param level the deflate level, 1 to 9.
+   * @return the encoding {@link OutputStream}, to be closed to flush the encoding.
+   * @throws IOException on error.
+   */
+  public OutputStream encode(OutputStream out, int level) throws IOException {
+    if (this != GZIP) {
+      return out;
+    }
+    return new GZIPOutputStream(out, BUFFER_SIZE) {
+      {
+        def.setLevel(level);
+      }
+    };
+  }
+
+  /**
+   * Checks whether an {@code Accept-Encoding} header accepts the codec.
+   *
+   * @param acceptEncoding the header value, may be null.
+   * @return true if the coding or {@code *} is listed with a non zero quality.
+   */
+  public boolean isAcceptedBy(String acceptEncoding) {
+    if (this == IDENTITY) {
+      return true;
+    }
+    if (acceptEncoding == null) {
+      return false;
+    }
+    for (String coding : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+      final String[] parts = coding.split(";");
+      final String name = parts[0].trim();
+      if ((name.equals(contentEncoding) || name.equals("*")) && !isRejected(parts)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isRejected(String[] parameters) {
+    for (int i = 1; i < parameters.length; i++) {
+      final String parameter = parameters[i].trim();
+      if (parameter.startsWith("q=")) {
+        try {
+          return Double.parseDouble(parameter.substring(2).trim()) <= 0D;
+        } catch (NumberFormatException e) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Resolves a codec from its content coding.
+   *
+   * @param contentEncoding the content coding, null for content stored before codecs existed.
+   * @return the {@link ContentCodec}, {@link #IDENTITY} when null.
+   * @throws IllegalArgumentException if the coding is unknown.
+   */
+  public static ContentCodec of(String contentEncoding) {
+    if (contentEncoding == null) {
+      return IDENTITY;
+    }
+    for (ContentCodec codec : values()) {
+      if (codec.contentEncoding.equalsIgnoreCase(contentEncoding.trim())) {
+        return codec;
+      }
+    }
+    throw new IllegalArgumentException("Unknown content codec " + contentEncoding);
+  }
+}
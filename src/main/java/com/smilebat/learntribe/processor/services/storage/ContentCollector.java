@@ -0,0 +1,131 @@
+package com.smilebat.learntribe.processor.services.storage;
+
+import com.smilebat.learntribe.processor.dataaccess.ReleasedContentRepository;
+import com.smilebat.learntribe.processor.dataaccess.ResumeContentRepository;
+import com.smilebat.learntribe.processor.dataaccess.ResumeTextRepository;
+import com.smilebat.learntribe.processor.dataaccess.jpa.entity.ReleasedContent;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Removes content no user references anymore from the {@link ContentStore}.
+ *
+ * <p>Content is never deleted when it is released. Releases are recorded, and collected once a
+ * grace period passed, so an upload deduplicated against the released content while it was in
+ * flight can still commit its reference. Content still referenced, or reused within the grace
+ * period, is kept. Uploads that rolled back release the content they created.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@Slf4j
+@Component
+public class ContentCollector {
+
+  private final ContentStore contentStore;
+  private final ResumeContentRepository contentRepository;
+  private final ResumeTextRepository textRepository;
+  private final ReleasedContentRepository releasedRepository;
+  private final Duration grace;
+  private final int batchSize;
+
+  /**
+   * Creates the collector.
+   *
+   * @param contentStore the {@link ContentStore}.
+   * @param contentRepository the {@link ResumeContentRepository}.
+   * @param textRepository the {@link ResumeTextRepository}.
+   * @param releasedRepository the {@link ReleasedContentRepository}.
+   * @param grace the time released content is kept.
+   * @param batchSize the maximum number of digests per run.
+   */
+  public ContentCollector(
+      ContentStore contentStore,
+      ResumeContentRepository contentRepository,
+      ResumeTextRepository textRepository,
+      ReleasedContentRepository releasedRepository,
+      @Value("${resume.storage.release.grace:PT30M}") Duration grace,
+      @Value("${resume.storage.release.batch-size:500}") int batchSize) {
+    this.contentStore = contentStore;
+    this.contentRepository = contentRepository;
+    this.textRepository = textRepository;
+    this.releasedRepository = releasedRepository;
+    this.grace = grace;
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Records that a reference to content was dropped, as part of the surrounding transaction.
+   *
+   * @param digest the content digest.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void release(String digest) {
+    releasedRepository.save(newRelease(digest));
+  }
+
+  /**
+   * Records that content created by a rolled back upload may be unreferenced, in its own
+   * transaction.
+   *
+   * @param digest the content digest.
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void releaseOrphan(String digest) {
+    releasedRepository.save(newRelease(digest));
+  }
+
+  private static ReleasedContent newRelease(String digest) {
+    ReleasedContent release = new ReleasedContent();
+    release.setDigest(digest);
+    release.setReleasedAt(Instant.now());
+    return release;
+  }
+
+  /** Removes the content released before the grace period that is neither referenced nor reused. */
+  @Scheduled(
+      initialDelayString = "${resume.storage.release.sweep-millis:600000}",
+      fixedDelayString = "${resume.storage.release.sweep-millis:600000}")
+  public void collect() {
+    final Instant cutoff = Instant.now().minus(grace);
+    final List<String> digests =
+        releasedRepository.findDigestsReleasedBefore(cutoff, PageRequest.of(0, batchSize));
+    int collected = 0;
+    for (String digest : digests) {
+      try {
+        if (collect(digest, cutoff)) {
+          collected++;
+        }
+      } catch (IOException | RuntimeException e) {
+        log.warn("Unable to collect content {}", digest, e);
+      }
+    }
+    if (collected > 0) {
+      log.info("Collected {} unreferenced resume contents", collected);
+    }
+  }
+
+  private boolean collect(String digest, Instant cutoff) throws IOException {
+    if (contentRepository.countByDigest(digest) > 0) {
+      releasedRepository.deleteReleasedBefore(digest, cutoff);
+      return false;
+    }
+    if (!contentStore.deleteIfUnusedSince(digest, cutoff)) {
+      // Reused by an upload in flight, checked again on a later run.
+      return false;
+    }
+    textRepository.deleteByDigest(digest);
+    releasedRepository.deleteReleasedBefore(digest, cutoff);
+    return true;
+  }
+}
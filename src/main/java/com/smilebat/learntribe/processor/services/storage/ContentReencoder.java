@@ -0,0 +1,103 @@
+package com.smilebat.learntribe.processor.services.storage;
+
+import com.smilebat.learntribe.processor.services.FileStorageService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Brings stored resumes to the {@link ContentCodec} of their type in small background batches.
+ *
+ * <p>Every run first moves uploads still held in the {@code FileDB} data column into the {@link
+ * ContentStore}, then rewrites content stored before codings existed, or encoded although its type
+ * is stored as is. Content that fails is
+ * skipped until the next restart, so one broken file does not stall the batches behind it.
+ *
+ * <p>Rewritten and failed items are counted as {@code resume.storage.reencoded}, tagged with their
+ * kind and outcome.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@Slf4j
+@Component
+public class ContentReencoder {
+
+  private final FileStorageService storageService;
+  private final MeterRegistry registry;
+  private final int batchSize;
+  private final Set<String> failed = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Creates the re-encoder.
+   *
+   * @param storageService the {@link FileStorageService}.
+   * @param registry the {@link MeterRegistry}.
+   * @param batchSize the maximum number of items per run, 0 disables the re-encoding.
+   */
+  public ContentReencoder(
+      FileStorageService storageService,
+      MeterRegistry registry,
+      @Value("${resume.storage.reencode.batch-size:100}") int batchSize) {
+    this.storageService = storageService;
+    this.registry = registry;
+    this.batchSize = batchSize;
+  }
+
+  /** Migrates and re-encodes one batch of stored resumes. */
+  @Scheduled(
+      initialDelayString = "${resume.storage.reencode.delay-millis:900000}",
+      fixedDelayString = "${resume.storage.reencode.delay-millis:900000}")
+  public void reencode() {
+    if (batchSize <= 0) {
+      return;
+    }
+    final int migrated =
+        process("legacy", storageService.findLegacyFiles(batchSize + failed.size()), true);
+    final int reencoded =
+        process("content", storageService.findUnencodedContent(batchSize + failed.size()), false);
+    if (migrated + reencoded > 0) {
+      log.info("Migrated {} legacy resumes and re-encoded {} stored resumes", migrated, reencoded);
+    }
+  }
+
+  private int process(String kind, List<String> ids, boolean legacy) {
+    int done = 0;
+    for (String id : ids) {
+      if (done == batchSize) {
+        break;
+      }
+      if (failed.contains(id)) {
+        continue;
+      }
+      String outcome = "success";
+      try {
+        if (legacy) {
+          storageService.migrateLegacyFile(id);
+        } else {
+          storageService.reencodeContent(id);
+        }
+        done++;
+      } catch (IOException | RuntimeException e) {
+        outcome = "error";
+        failed.add(id);
+        log.warn("Unable to re-encode {} resume {}", kind, id, e);
+      }
+      Counter.builder("resume.storage.reencoded")
+          .description("Stored resumes brought to the configured content coding")
+          .tag("kind", kind)
+          .tag("outcome", outcome)
+          .register(registry)
+          .increment();
+    }
+    return done;
+  }
+}
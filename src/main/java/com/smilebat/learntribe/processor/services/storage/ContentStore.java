@@ -0,0 +1,105 @@
+package com.smilebat.learntribe.processor.services.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.core.io.Resource;
+
+/**
+ * Content addressed storage backend for the uploaded resume bytes.
+ *
+ * <p>Content is keyed by the hex encoded SHA-256 of its bytes, so identical uploads are kept once.
+ * Stores may encode the bytes at rest, see {@link ContentCodec}. The digest, {@link #read(String)}
+ * and {@link #asResource(String)} always refer to the decoded bytes.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+public interface ContentStore {
+
+  /**
+   * Puts the content of the source into the store, unless identical content is already present.
+   *
+   * <p>The source may be opened more than once. Reusing present content marks it as used, and keeps
+   * the codec it is stored with.
+   *
+   * @param source the {@link InputStreamSource}.
+   * @param codec the {@link ContentCodec} new content is written with, if it saves enough space.
+   * @return the {@link StoredContent}.
+   * @throws IOException on error.
+   */
+  StoredContent put(InputStreamSource source, ContentCodec codec) throws IOException;
+
+  /**
+   * Checks whether content is held under the digest.
+   *
+   * @param digest the content digest.
+   * @return true if present.
+   */
+  boolean contains(String digest);
+
+  /**
+   * Opens the decoded content held under the digest.
+   *
+   * @param digest the content digest.
+   * @return the {@link InputStream}, to be closed by the caller.
+   * @throws IOException on error.
+   */
+  InputStream read(String digest) throws IOException;
+
+  /**
+   * Exposes the decoded content held under the digest as a {@link Resource}.
+   *
+   * <p>The resource must report its length without reading the content. Only content stored
+   * without a coding can be read from an offset without decoding what precedes it, encoded content
+   * is better served in ranges through {@link #asEncodedResource(String, ContentCodec)}.
+   *
+   * @param digest the content digest.
+   * @return the {@link Resource}.
+   * @throws IOException on error.
+   */
+  Resource asResource(String digest) throws IOException;
+
+  /**
+   * Exposes the stored bytes held under the digest as they are, if they are encoded with the
+   * codec.
+   *
+   * @param digest the content digest.
+   * @param codec the expected {@link ContentCodec}.
+   * @return the encoded {@link Resource}, empty when the content is stored with another codec.
+   */
+  Optional<Resource> asEncodedResource(String digest, ContentCodec codec);
+
+  /**
+   * Rewrites the content held under the digest with a codec, unless it is stored with that codec
+   * already or encoding would not save enough space.
+   *
+   * @param digest the content digest.
+   * @param codec the {@link ContentCodec} to store the content with.
+   * @return the {@link StoredContent}, created when the stored bytes were rewritten.
+   * @throws IOException on error, or if the stored bytes do not match the digest.
+   */
+  StoredContent reencode(String digest, ContentCodec codec) throws IOException;
+
+  /**
+   * Removes the content held under the digest, if any.
+   *
+   * @param digest the content digest.
+   * @throws IOException on error.
+   */
+  void delete(String digest) throws IOException;
+
+  /**
+   * Removes the content held under the digest unless it was written or reused since a point in
+   * time, so that uploads deduplicated against released content keep it.
+   *
+   * @param digest the content digest.
+   * @param cutoff the point in time.
+   * @return true if no content is held under the digest anymore.
+   * @throws IOException on error.
+   */
+  boolean deleteIfUnusedSince(String digest, Instant cutoff) throws IOException;
+}
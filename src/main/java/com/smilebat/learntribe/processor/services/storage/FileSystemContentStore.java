@@ -0,0 +1,396 @@
+package com.smilebat.learntribe.processor.services.storage;
+
+import com.smilebat.learntribe.learntribevalidator.learntribeexceptions.InvalidDataException;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Local filesystem backed {@link ContentStore}.
+ *
+ * <p>The source is first hashed without writing anything, so a duplicate upload costs a single
+ * read. New content is copied through a fixed size buffer into a temporary file and atomically
+ * moved to {@code root/ab/cd/<digest>}, so heap usage does not depend on the size of the resume.
+ *
+ * <p>New content is encoded with the {@link ContentCodec} requested by the caller in the same pass,
+ * and kept encoded as {@code <digest>.gz} when that saves at least {@code
+ * resume.storage.min-savings} of the size. The file name tells the codec, so content written
+ * before codecs existed is read unchanged and {@link #reencode(String, ContentCodec)} can migrate
+ * it one file at a time.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@Slf4j
+@Component
+@SuppressFBWarnings(justification = "PATH_TRAVERSAL_IN")
+public class FileSystemContentStore implements ContentStore {
+
+  private static final Pattern VALID_DIGEST = Pattern.compile("[0-9a-f]{64}");
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  /** Codecs in lookup order, so an encoded copy wins over a raw file not deleted yet. */
+  private static final ContentCodec[] LOOKUP = {ContentCodec.GZIP, ContentCodec.IDENTITY};
+
+  /** Bytes of the head of new content encoded to decide whether encoding pays off. */
+  private static final long SAMPLE_SIZE = 256 * 1024;
+
+  private final Path root;
+  private final int bufferSize;
+  private final int level;
+  private final double minSavings;
+
+  /**
+   * Creates the store.
+   *
+   * @param root the root directory of the store.
+   * @param bufferSize the copy buffer size in bytes.
+   * @param level the deflate level, 1 to 9.
+   * @param minSavings the minimum share of the size encoding must save to be kept.
+   * @throws IOException on error.
+   */
+  public FileSystemContentStore(
+      @Value("${resume.storage.root:/data/resumes}") String root,
+      @Value("${resume.storage.buffer-size:65536}") int bufferSize,
+      @Value("${resume.storage.compression-level:6}") int level,
+      @Value("${resume.storage.min-savings:0.1}") double minSavings)
+      throws IOException {
+    this.root = Files.createDirectories(Paths.get(root).toAbsolutePath().normalize());
+    this.bufferSize = bufferSize;
+    this.level = level;
+    this.minSavings = minSavings;
+  }
+
+  @Override
+  public StoredContent put(InputStreamSource source, ContentCodec codec) throws IOException {
+    final byte[] buffer = new byte[bufferSize];
+    final MessageDigest sha256 = newDigest();
+    long size = 0;
+    try (InputStream in = source.getInputStream()) {
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        sha256.update(buffer, 0, read);
+        size += read;
+      }
+    }
+    final String digest = toHex(sha256.digest());
+    final ContentCodec existing = find(digest);
+    if (existing != null) {
+      log.info("Content {} already stored", digest);
+      // Reuse counts as use, so a concurrent collection of the released digest keeps the file.
+      final Path path = path(digest, existing);
+      Files.setLastModifiedTime(path, FileTime.from(Instant.now()));
+      return new StoredContent(digest, size, false, existing, Files.size(path));
+    }
+    return write(source, buffer, codec);
+  }
+
+  @Override
+  public boolean contains(String digest) {
+    return find(digest) != null;
+  }
+
+  @Override
+  public InputStream read(String digest) throws IOException {
+    final ContentCodec stored = find(digest);
+    if (stored == null) {
+      throw new NoSuchFileException(digest);
+    }
+    final InputStream in = Files.newInputStream(path(digest, stored));
+    try {
+      return stored.decode(in);
+    } catch (IOException e) {
+      in.close();
+      throw e;
+    }
+  }
+
+  @Override
+  public Resource asResource(String digest) throws IOException {
+    final ContentCodec stored = find(digest);
+    if (stored == null) {
+      throw new IOException("Missing content for " + digest);
+    }
+    final Path path = path(digest, stored);
+    if (stored == ContentCodec.IDENTITY) {
+      return new FileSystemResource(path);
+    }
+    return new DecodedResource(path, stored, decodedSize(path, stored));
+  }
+
+  @Override
+  public Optional<Resource> asEncodedResource(String digest, ContentCodec encoding) {
+    final Path path = path(digest, encoding);
+    return Files.isReadable(path) ? Optional.of(new FileSystemResource(path)) : Optional.empty();
+  }
+
+  @Override
+  public StoredContent reencode(String digest, ContentCodec codec) throws IOException {
+    final ContentCodec stored = find(digest);
+    if (stored == null) {
+      throw new NoSuchFileException(digest);
+    }
+    final Path source = path(digest, stored);
+    if (stored == codec) {
+      return new StoredContent(
+          digest, decodedSize(source, stored), false, stored, Files.size(source));
+    }
+    final byte[] buffer = new byte[bufferSize];
+    final Path temp = Files.createTempFile(root, ".reencode-", ".tmp");
+    try {
+      final MessageDigest sha256 = newDigest();
+      long size = 0;
+      try (InputStream in = stored.decode(Files.newInputStream(source));
+          OutputStream file = Files.newOutputStream(temp);
+          OutputStream out = codec.encode(file, level)) {
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+          sha256.update(buffer, 0, read);
+          out.write(buffer, 0, read);
+          size += read;
+        }
+      }
+      if (!digest.equals(toHex(sha256.digest()))) {
+        throw new IOException("Stored content does not match " + digest);
+      }
+      final long storedSize = Files.size(temp);
+      if (codec != ContentCodec.IDENTITY && !isWorthEncoding(size, storedSize)) {
+        return new StoredContent(digest, size, false, stored, Files.size(source));
+      }
+      Files.move(
+          temp,
+          path(digest, codec),
+          StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+      Files.deleteIfExists(source);
+      log.info("Reencoded {} as {}, {} of {} bytes", digest, codec, storedSize, size);
+      return new StoredContent(digest, size, true, codec, storedSize);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  @Override
+  public void delete(String digest) throws IOException {
+    for (ContentCodec stored : LOOKUP) {
+      Files.deleteIfExists(path(digest, stored));
+    }
+  }
+
+  @Override
+  public boolean deleteIfUnusedSince(String digest, Instant cutoff) throws IOException {
+    for (ContentCodec stored : LOOKUP) {
+      final Path path = path(digest, stored);
+      if (Files.exists(path) && !Files.getLastModifiedTime(path).toInstant().isBefore(cutoff)) {
+        return false;
+      }
+    }
+    delete(digest);
+    return true;
+  }
+
+  /**
+   * Copies the source into a temporary file, hashing it again on the way so that the stored key
+   * always matches the bytes actually written. Content is encoded in one pass when a sample of its
+   * head compresses well enough, and only written again plainly when the whole does not.
+   */
+  private StoredContent write(InputStreamSource source, byte[] buffer, ContentCodec codec)
+      throws IOException {
+    if (codec != ContentCodec.IDENTITY && isWorthEncoding(source, buffer, codec)) {
+      final StoredContent encoded = writeWith(source, buffer, codec);
+      if (encoded != null) {
+        return encoded;
+      }
+    }
+    return writeWith(source, buffer, ContentCodec.IDENTITY);
+  }
+
+  /** Writes the source with a coding, or returns null if the coding does not save enough. */
+  private StoredContent writeWith(InputStreamSource source, byte[] buffer, ContentCodec written)
+      throws IOException {
+    final Path temp = Files.createTempFile(root, ".upload-", ".tmp");
+    try {
+      final MessageDigest sha256 = newDigest();
+      long size = 0;
+      try (InputStream in = source.getInputStream();
+          OutputStream file = Files.newOutputStream(temp);
+          OutputStream out = written.encode(file, level)) {
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+          sha256.update(buffer, 0, read);
+          out.write(buffer, 0, read);
+          size += read;
+        }
+      }
+      final long storedSize = Files.size(temp);
+      if (written != ContentCodec.IDENTITY && !isWorthEncoding(size, storedSize)) {
+        return null;
+      }
+      final String digest = toHex(sha256.digest());
+      final Path target = path(digest, written);
+      Files.createDirectories(target.getParent());
+      Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      log.info("Stored {} bytes as {} in {} bytes of {}", size, digest, storedSize, written);
+      return new StoredContent(digest, size, true, written, storedSize);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  /** Encodes the head of the source into a counter, to skip encoding incompressible content. */
+  private boolean isWorthEncoding(InputStreamSource source, byte[] buffer, ContentCodec codec)
+      throws IOException {
+    final CountingOutputStream counter = new CountingOutputStream();
+    long sampled = 0;
+    try (InputStream in = source.getInputStream();
+        OutputStream out = codec.encode(counter, level)) {
+      while (sampled < SAMPLE_SIZE) {
+        final int read = in.read(buffer, 0, (int) Math.min(buffer.length, SAMPLE_SIZE - sampled));
+        if (read == -1) {
+          break;
+        }
+        out.write(buffer, 0, read);
+        sampled += read;
+      }
+    }
+    return isWorthEncoding(sampled, counter.count);
+  }
+
+  private boolean isWorthEncoding(long size, long encodedSize) {
+    return encodedSize <= size * (1D - minSavings);
+  }
+
+  private ContentCodec find(String digest) {
+    for (ContentCodec stored : LOOKUP) {
+      if (Files.exists(path(digest, stored))) {
+        return stored;
+      }
+    }
+    return null;
+  }
+
+  private Path path(String digest, ContentCodec stored) {
+    return resolve(digest).resolveSibling(digest + stored.getSuffix());
+  }
+
+  /**
+   * Reads the decoded size of a file, from the gzip trailer for gzip files. The trailer holds the
+   * size modulo 2^32, far above the upload limit.
+   */
+  private static long decodedSize(Path path, ContentCodec stored) throws IOException {
+    if (stored != ContentCodec.GZIP) {
+      return Files.size(path);
+    }
+    try (SeekableByteChannel channel = Files.newByteChannel(path)) {
+      final ByteBuffer trailer = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+      channel.position(channel.size() - Integer.BYTES);
+      while (trailer.hasRemaining() && channel.read(trailer) > 0) {
+        // fills the trailer
+      }
+      trailer.flip();
+      return Integer.toUnsignedLong(trailer.getInt());
+    }
+  }
+
+  private Path resolve(String digest) {
+    if (digest == null || !VALID_DIGEST.matcher(digest).matches()) {
+      throw new InvalidDataException("Invalid content digest");
+    }
+    return root.resolve(digest.substring(0, 2)).resolve(digest.substring(2, 4)).resolve(digest);
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static String toHex(byte[] bytes) {
+    final char[] chars = new char[bytes.length * 2];
+    for (int i = 0; i < bytes.length; i++) {
+      chars[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+      chars[i * 2 + 1] = HEX[bytes[i] & 0xF];
+    }
+    return new String(chars);
+  }
+
+  /** Output stream discarding the bytes written to it, only counting them. */
+  private static final class CountingOutputStream extends OutputStream {
+
+    private long count;
+
+    @Override
+    public void write(int b) {
+      count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      count += len;
+    }
+  }
+
+  /** Decoded view of an encoded file, reporting the decoded length for ranged downloads. */
+  private static final class DecodedResource extends AbstractResource {
+
+    private final Path path;
+    private final ContentCodec codec;
+    private final long length;
+
+    private DecodedResource(Path path, ContentCodec codec, long length) {
+      this.path = path;
+      this.codec = codec;
+      this.length = length;
+    }
+
+    @Override
+    public String getDescription() {
+      return codec.getContentEncoding() + " decoded file [" + path + "]";
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+      return codec.decode(Files.newInputStream(path));
+    }
+
+    @Override
+    public boolean exists() {
+      return Files.exists(path);
+    }
+
+    @Override
+    public long contentLength() {
+      return length;
+    }
+
+    @Override
+    public long lastModified() throws IOException {
+      return Files.getLastModifiedTime(path).toMillis();
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package com.smilebat.learntribe.processor.services.storage;
+
+import lombok.Value;
+
+/**
+ * Outcome of putting content into a {@link ContentStore}.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@Value
+public class StoredContent {
+
+  /** Hex encoded SHA-256 of the content, the key under which it is stored. */
+  String digest;
+
+  /** Size of the content in bytes. */
+  long size;
+
+  /** Whether the bytes were written, false when identical content was already present. */
+  boolean created;
+
+  /** Codec of the stored bytes. */
+  ContentCodec codec;
+
+  /** Size of the stored, possibly encoded, bytes. */
+  long storedSize;
+}
@@ -0,0 +1,74 @@
+package com.smilebat.learntribe.processor.services.summaries;
+
+import com.smilebat.learntribe.learntribeclients.openai.OpenAiService;
+import com.smilebat.learntribe.openai.OpenAiRequest;
+import com.smilebat.learntribe.openai.response.OpenAiResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link SummaryGenerator} backed by the OpenAI completions api.
+ *
+ * <p>Calls are timed as {@code openai.completions}, tagged with their outcome.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OpenAiSummaryGenerator implements SummaryGenerator {
+
+  private static final String PROMPT =
+      "Write %d distinct first person professional summaries for the resume of a %s"
+          + " skilled in %s. Write one summary per line, without numbering.";
+
+  private final OpenAiService openAiService;
+  private final MeterRegistry registry;
+
+  @Override
+  public List<String> generate(String skills, String role, int count) {
+    log.info("Generating personal summaries for {}", role);
+    OpenAiRequest request = new OpenAiRequest();
+    request.setPrompt(String.format(PROMPT, count, role, skills));
+    final Timer.Sample sample = Timer.start(registry);
+    String outcome = "error";
+    final OpenAiResponse response;
+    try {
+      response = openAiService.getCompletions(request);
+      outcome = "success";
+    } finally {
+      sample.stop(
+          Timer.builder("openai.completions")
+              .description("OpenAI completion calls")
+              .tag("outcome", outcome)
+              .publishPercentileHistogram()
+              .register(registry));
+    }
+    List<String> summaries = new ArrayList<>(count);
+    response
+        .getChoices()
+        .forEach(choice -> summaries.addAll(toSummaries(choice.getText(), count)));
+    return summaries.size() > count ? summaries.subList(0, count) : summaries;
+  }
+
+  private static List<String> toSummaries(String text, int count) {
+    List<String> summaries = new ArrayList<>(count);
+    if (text == null) {
+      return summaries;
+    }
+    for (String line : text.split("\\R")) {
+      final String summary = line.replaceFirst("^\\s*(\\d+[.)]|[-*])\\s*", "").trim();
+      if (!summary.isEmpty()) {
+        summaries.add(summary);
+      }
+    }
+    return summaries;
+  }
+}
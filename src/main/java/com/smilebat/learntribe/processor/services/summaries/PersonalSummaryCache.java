@@ -0,0 +1,155 @@
+package com.smilebat.learntribe.processor.services.summaries;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache of generated personal summaries keyed by the normalized (skills, current role) tuple.
+ *
+ * <p>The cache holds futures, so concurrent requests for the same tuple share the single
+ * generation in flight instead of each calling the generator. Failed generations are not cached.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@Slf4j
+public class PersonalSummaryCache {
+
+  private final SummaryGenerator generator;
+
+  private final AsyncCache<PromptKey, List<String>> cache;
+
+  private final int summariesPerPrompt;
+
+  private final Duration timeout;
+
+  /**
+   * Creates the cache.
+   *
+   * @param generator the {@link SummaryGenerator}.
+   * @param executor the {@link Executor} running the generations.
+   * @param maximumSize the maximum number of cached prompts.
+   * @param timeToLive the time after which a prompt is generated again.
+   * @param summariesPerPrompt the number of summaries generated per prompt.
+   * @param timeout the maximum time a caller waits for a generation.
+   */
+  public PersonalSummaryCache(
+      SummaryGenerator generator,
+      Executor executor,
+      long maximumSize,
+      Duration timeToLive,
+      int summariesPerPrompt,
+      Duration timeout) {
+    this.generator = generator;
+    this.summariesPerPrompt = summariesPerPrompt;
+    this.timeout = timeout;
+    this.cache =
+        Caffeine.newBuilder()
+            .executor(executor)
+            .maximumSize(maximumSize)
+            .expireAfterWrite(timeToLive)
+            .buildAsync();
+  }
+
+  /**
+   * Gets the summaries of a candidate, generating them unless cached or already in flight.
+   *
+   * <p>The normalized tuple only keys the cache, the prompt is written with the skills and role as
+   * given by the caller that starts the generation.
+   *
+   * @param skills the comma separated skills, in any order and case.
+   * @param role the current role.
+   * @return the future summaries.
+   */
+  public CompletableFuture<List<String>> get(String skills, String role) {
+    final PromptKey key = new PromptKey(normalizeSkills(skills), RoleSummaryIndex.normalize(role));
+    final String designation = role == null ? "" : role.trim();
+    final String skillList = skills == null ? "" : skills.trim();
+    return cache.get(
+        key, k -> List.copyOf(generator.generate(skillList, designation, summariesPerPrompt)));
+  }
+
+  /**
+   * Drops a generation still in flight from the cache, so that the next call starts a new one
+   * instead of waiting on a stuck call. Completed generations and generations replaced meanwhile
+   * are left alone.
+   *
+   * @param skills the comma separated skills, as passed to {@link #get(String, String)}.
+   * @param role the current role, as passed to {@link #get(String, String)}.
+   * @param generation the future returned by {@link #get(String, String)}.
+   * @return true if the generation was dropped.
+   */
+  public boolean abandon(String skills, String role, CompletableFuture<List<String>> generation) {
+    if (generation.isDone()) {
+      return false;
+    }
+    final PromptKey key = new PromptKey(normalizeSkills(skills), RoleSummaryIndex.normalize(role));
+    return cache.asMap().remove(key, generation);
+  }
+
+  /**
+   * Gets the summaries of a candidate without blocking the caller for the generation.
+   *
+   * <p>A generation outliving the timeout keeps running and is cached for the next call, only the
+   * returned future completes early.
+   *
+   * @param skills the comma separated skills, in any order and case.
+   * @param role the current role.
+   * @return the future summaries, empty if the generation failed, timed out or was rejected.
+   */
+  public CompletableFuture<List<String>> getWithinTimeout(String skills, String role) {
+    final CompletableFuture<List<String>> generation;
+    try {
+      generation = get(skills, role);
+    } catch (RejectedExecutionException e) {
+      log.warn("Personal summaries unavailable for {}", role, e);
+      return CompletableFuture.completedFuture(List.of());
+    }
+    // a dependent stage, so that the timeout never completes the cached generation
+    return generation
+        .thenApply(summaries -> summaries)
+        .completeOnTimeout(List.of(), timeout.toMillis(), TimeUnit.MILLISECONDS)
+        .exceptionally(
+            e -> {
+              log.warn("Personal summaries unavailable for {}", role, e);
+              return List.of();
+            });
+  }
+
+  /**
+   * Normalizes skills to a sorted, lowercase, comma separated list without duplicates.
+   *
+   * @param skills the skills.
+   * @return the normalized skills.
+   */
+  static String normalizeSkills(String skills) {
+    if (skills == null) {
+      return "";
+    }
+    return Arrays.stream(skills.split(","))
+        .map(skill -> skill.trim().toLowerCase(Locale.ROOT))
+        .filter(skill -> !skill.isEmpty())
+        .distinct()
+        .sorted()
+        .collect(Collectors.joining(","));
+  }
+
+  /** Cache key of one prompt. */
+  @Data
+  static class PromptKey {
+    private final String skills;
+    private final String role;
+  }
+}
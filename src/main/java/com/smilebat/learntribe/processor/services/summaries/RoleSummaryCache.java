@@ -0,0 +1,96 @@
+package com.smilebat.learntribe.processor.services.summaries;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.smilebat.learntribe.dataaccess.jpa.entity.ProfileSummary;
+import com.smilebat.learntribe.processor.dataaccess.ProfileSummaryIndexRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded, expiring cache of {@link ProfileSummary} pages per role.
+ *
+ * <p>Pages missing from the cache are fetched with a single query for all their roles, on the
+ * connection of the calling transaction. Pages hold the summaries of a role in id order.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@Slf4j
+@Component
+public class RoleSummaryCache {
+
+  private final ProfileSummaryIndexRepository summaryRepository;
+
+  private final Cache<RolePage, List<ProfileSummary>> cache;
+
+  /**
+   * Creates the cache.
+   *
+   * @param summaryRepository the {@link ProfileSummaryIndexRepository}.
+   * @param maximumSize the maximum number of cached pages.
+   * @param timeToLive the time after which a cached page is reloaded.
+   */
+  public RoleSummaryCache(
+      ProfileSummaryIndexRepository summaryRepository,
+      @Value("${resume.summaries.cache.max-size:5000}") long maximumSize,
+      @Value("${resume.summaries.cache.ttl:PT30M}") Duration timeToLive) {
+    this.summaryRepository = summaryRepository;
+    this.cache =
+        Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(timeToLive).build();
+  }
+
+  /**
+   * Gets one page of summaries for each role.
+   *
+   * @param roles the roles, in the order their pages are returned.
+   * @param pageNum the page number, not negative.
+   * @param pageSize the number of summaries per role.
+   * @return the List of {@link ProfileSummary}, in role order.
+   */
+  public List<ProfileSummary> getSummaries(Collection<String> roles, int pageNum, int pageSize) {
+    List<RolePage> keys = new ArrayList<>(roles.size());
+    roles.forEach(role -> keys.add(new RolePage(role, pageNum, pageSize)));
+    Map<RolePage, List<ProfileSummary>> pages = cache.getAll(keys, this::load);
+    List<ProfileSummary> summaries = new ArrayList<>();
+    keys.forEach(key -> summaries.addAll(pages.getOrDefault(key, List.of())));
+    return summaries;
+  }
+
+  private Map<RolePage, List<ProfileSummary>> load(Iterable<? extends RolePage> keys) {
+    final Set<String> roles = new LinkedHashSet<>();
+    keys.forEach(key -> roles.add(key.getRole()));
+    log.info("Fetching summaries for {} roles", roles.size());
+    final Map<String, List<ProfileSummary>> byRole = new HashMap<>();
+    for (ProfileSummary summary : summaryRepository.findByRoleIn(roles)) {
+      byRole.computeIfAbsent(summary.getRole(), r -> new ArrayList<>()).add(summary);
+    }
+    final Map<RolePage, List<ProfileSummary>> pages = new HashMap<>();
+    for (RolePage key : keys) {
+      final List<ProfileSummary> all = byRole.getOrDefault(key.getRole(), List.of());
+      final long from = (long) key.getPage() * key.getSize();
+      final int to = (int) Math.min(all.size(), from + key.getSize());
+      pages.put(key, from >= to ? List.of() : List.copyOf(all.subList((int) from, to)));
+    }
+    return pages;
+  }
+
+  /** Cache key of one page of summaries. */
+  @Data
+  private static class RolePage {
+    private final String role;
+    private final int page;
+    private final int size;
+  }
+}
@@ -0,0 +1,260 @@
+package com.smilebat.learntribe.processor.services.summaries;
+
+import com.smilebat.learntribe.dataaccess.jpa.entity.ProfileSummary;
+import com.smilebat.learntribe.processor.dataaccess.ProfileSummaryIndexRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * In memory index from normalized roles to their profile summaries.
+ *
+ * <p>Roles are normalized to a sorted set of lowercase tokens with common abbreviations expanded,
+ * so "Sr. Java Developer" and "Senior Java Developer" share one entry. A role missing from the
+ * index falls back to the indexed role with the highest token overlap.
+ *
+ * <p>The index is warmed on startup and then refreshed incrementally with the summaries added
+ * since the last refresh, with a periodic full rebuild picking up edits and deletions. Lookups
+ * only read an immutable snapshot.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@Slf4j
+@Component
+public class RoleSummaryIndex {
+
+  private static final int BATCH_SIZE = 1000;
+
+  private static final double MIN_SIMILARITY = 0.5;
+
+  private static final Map<String, String> ABBREVIATIONS =
+      Map.ofEntries(
+          Map.entry("sr", "senior"),
+          Map.entry("snr", "senior"),
+          Map.entry("jr", "junior"),
+          Map.entry("jnr", "junior"),
+          Map.entry("mgr", "manager"),
+          Map.entry("dev", "developer"),
+          Map.entry("eng", "engineer"),
+          Map.entry("engg", "engineer"),
+          Map.entry("assoc", "associate"),
+          Map.entry("asst", "assistant"),
+          Map.entry("admin", "administrator"));
+
+  private final ProfileSummaryIndexRepository repository;
+
+  private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+  private Builder builder = new Builder();
+
+  /**
+   * Creates the index.
+   *
+   * @param repository the {@link ProfileSummaryIndexRepository}.
+   */
+  public RoleSummaryIndex(ProfileSummaryIndexRepository repository) {
+    this.repository = repository;
+  }
+
+  /**
+   * Whether the index has been warmed.
+   *
+   * @return true once the first load completed.
+   */
+  public boolean isReady() {
+    return snapshot != Snapshot.EMPTY;
+  }
+
+  /**
+   * Gets one page of summaries for each role.
+   *
+   * @param roles the roles, in any spelling.
+   * @param pageNum the page number, not negative.
+   * @param pageSize the number of summaries per role.
+   * @param limit the maximum number of summaries returned.
+   * @return the summaries, in role order, none for the roles with fewer pages.
+   */
+  public Set<String> getSummaries(
+      Collection<String> roles, int pageNum, int pageSize, int limit) {
+    final Snapshot current = snapshot;
+    final Set<String> summaries = new LinkedHashSet<>();
+    for (String role : roles) {
+      final int[] docs = current.find(normalize(role));
+      final long from = (long) pageNum * pageSize;
+      if (from >= docs.length) {
+        continue;
+      }
+      final int to = (int) Math.min(docs.length, from + pageSize);
+      for (int i = (int) from; i < to && summaries.size() < limit; i++) {
+        summaries.add(current.texts[docs[i]]);
+      }
+    }
+    return summaries;
+  }
+
+  /** Adds the summaries created since the last refresh, warming the index on the first run. */
+  @Scheduled(
+      initialDelayString = "${resume.summaries.index.initial-delay-millis:0}",
+      fixedDelayString = "${resume.summaries.index.refresh-millis:300000}")
+  public synchronized void refresh() {
+    final int added = builder.load(repository);
+    if (added > 0 || !isReady()) {
+      snapshot = builder.build();
+      log.info("Indexed {} new role summaries, {} in total", added, snapshot.texts.length);
+    }
+  }
+
+  /** Rebuilds the index from scratch, dropping edited and deleted summaries. */
+  @Scheduled(
+      initialDelayString = "${resume.summaries.index.rebuild-millis:21600000}",
+      fixedDelayString = "${resume.summaries.index.rebuild-millis:21600000}")
+  public synchronized void rebuild() {
+    Builder fresh = new Builder();
+    fresh.load(repository);
+    builder = fresh;
+    snapshot = fresh.build();
+    log.info("Rebuilt role summary index with {} summaries", snapshot.texts.length);
+  }
+
+  /**
+   * Normalizes a role to its index key.
+   *
+   * @param role the role.
+   * @return the key, sorted space separated tokens.
+   */
+  static String normalize(String role) {
+    return String.join(" ", tokens(role));
+  }
+
+  private static Set<String> tokens(String role) {
+    final Set<String> tokens = new TreeSet<>();
+    if (role == null) {
+      return tokens;
+    }
+    for (String token : role.toLowerCase(Locale.ROOT).split("[^a-z0-9+#]+")) {
+      if (!token.isEmpty()) {
+        tokens.add(ABBREVIATIONS.getOrDefault(token, token));
+      }
+    }
+    return tokens;
+  }
+
+  /** Mutable state accumulated across incremental refreshes. */
+  private static final class Builder {
+    private final List<String> texts = new ArrayList<>();
+    private final Map<String, String> interned = new HashMap<>();
+    private final Map<String, List<Integer>> roleDocs = new HashMap<>();
+    private long lastId;
+
+    int load(ProfileSummaryIndexRepository repository) {
+      int added = 0;
+      List<ProfileSummary> batch;
+      do {
+        batch = repository.findAfter(lastId, PageRequest.of(0, BATCH_SIZE));
+        for (ProfileSummary summary : batch) {
+          add(summary);
+          lastId = Math.max(lastId, summary.getId());
+        }
+        added += batch.size();
+      } while (batch.size() == BATCH_SIZE);
+      return added;
+    }
+
+    private void add(ProfileSummary summary) {
+      final String text = summary.getSummary();
+      final String key = normalize(summary.getRole());
+      if (text == null || key.isEmpty()) {
+        return;
+      }
+      texts.add(interned.computeIfAbsent(text, t -> t));
+      roleDocs.computeIfAbsent(key, k -> new ArrayList<>()).add(texts.size() - 1);
+    }
+
+    Snapshot build() {
+      final Map<String, int[]> docs = new HashMap<>(roleDocs.size() * 2);
+      final Map<String, List<String>> tokenRoles = new HashMap<>();
+      roleDocs.forEach(
+          (key, ids) -> {
+            docs.put(key, ids.stream().mapToInt(Integer::intValue).toArray());
+            for (String token : key.split(" ")) {
+              tokenRoles.computeIfAbsent(token, t -> new ArrayList<>()).add(key);
+            }
+          });
+      final Map<String, String[]> roles = new HashMap<>(tokenRoles.size() * 2);
+      tokenRoles.forEach((token, keys) -> roles.put(token, keys.toArray(new String[0])));
+      return new Snapshot(texts.toArray(new String[0]), docs, roles);
+    }
+  }
+
+  /** Immutable view of the index served to readers. */
+  private static final class Snapshot {
+    static final Snapshot EMPTY =
+        new Snapshot(new String[0], Collections.emptyMap(), Collections.emptyMap());
+
+    private static final int[] NONE = new int[0];
+
+    private final String[] texts;
+    private final Map<String, int[]> roleDocs;
+    private final Map<String, String[]> tokenRoles;
+
+    Snapshot(String[] texts, Map<String, int[]> roleDocs, Map<String, String[]> tokenRoles) {
+      this.texts = texts;
+      this.roleDocs = roleDocs;
+      this.tokenRoles = tokenRoles;
+    }
+
+    int[] find(String key) {
+      final int[] exact = roleDocs.get(key);
+      if (exact != null) {
+        return exact;
+      }
+      final String closest = closestRole(key);
+      return closest == null ? NONE : roleDocs.get(closest);
+    }
+
+    /** Finds the indexed role with the highest token jaccard similarity to the key. */
+    private String closestRole(String key) {
+      if (key.isEmpty()) {
+        return null;
+      }
+      final List<String> queryTokens = Arrays.asList(key.split(" "));
+      final Map<String, Integer> overlaps = new HashMap<>();
+      for (String token : queryTokens) {
+        for (String role : tokenRoles.getOrDefault(token, new String[0])) {
+          overlaps.merge(role, 1, Integer::sum);
+        }
+      }
+      String closest = null;
+      double best = 0;
+      for (Map.Entry<String, Integer> overlap : overlaps.entrySet()) {
+        final String role = overlap.getKey();
+        final int shared = overlap.getValue();
+        final int roleTokens = role.split(" ").length;
+        final double similarity = (double) shared / (queryTokens.size() + roleTokens - shared);
+        if (similarity > best || (similarity == best && role.compareTo(closest) < 0)) {
+          best = similarity;
+          closest = role;
+        }
+      }
+      if (best < MIN_SIMILARITY) {
+        return null;
+      }
+      return closest;
+    }
+  }
+}
@@ -0,0 +1,23 @@
+package com.smilebat.learntribe.processor.services.summaries;
+
+import java.util.List;
+
+/**
+ * Generates personal resume summaries.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+public interface SummaryGenerator {
+
+  /**
+   * Generates personal summaries for a candidate.
+   *
+   * @param skills the comma separated skills, as entered by the candidate.
+   * @param role the current role, as entered by the candidate.
+   * @param count the number of summaries requested.
+   * @return the List of summaries, at most count.
+   */
+  List<String> generate(String skills, String role, int count);
+}
@@ -0,0 +1,122 @@
+package com.smilebat.learntribe.processor.services.summaries;
+
+import com.smilebat.learntribe.processor.models.SummaryJobResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * An asynchronous personal summary generation and its listeners.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@Slf4j
+public class SummaryJob {
+
+  /** Lifecycle of a job. */
+  public enum Status {
+    PENDING,
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+  }
+
+  @Getter private final String id;
+
+  @Getter private final String keyCloakId;
+
+  @Getter private final String skills;
+
+  @Getter private final String role;
+
+  private final List<SseEmitter> emitters = new ArrayList<>();
+
+  private Status status = Status.PENDING;
+
+  private int attempts;
+
+  private List<String> summaries = List.of();
+
+  private String error;
+
+  SummaryJob(String id, String keyCloakId, String skills, String role) {
+    this.id = id;
+    this.keyCloakId = keyCloakId;
+    this.skills = skills;
+    this.role = role;
+  }
+
+  synchronized void running(int attempt) {
+    status = Status.RUNNING;
+    attempts = attempt;
+  }
+
+  void succeed(List<String> result) {
+    complete(Status.SUCCEEDED, result, null);
+  }
+
+  void fail(Throwable cause) {
+    complete(Status.FAILED, List.of(), cause.getClass().getSimpleName());
+  }
+
+  /**
+   * Registers a listener notified once the job is done, immediately if it already is.
+   *
+   * @param emitter the {@link SseEmitter}.
+   */
+  public synchronized void subscribe(SseEmitter emitter) {
+    if (isDone()) {
+      send(emitter);
+      return;
+    }
+    emitters.add(emitter);
+    emitter.onCompletion(() -> unsubscribe(emitter));
+    emitter.onTimeout(() -> unsubscribe(emitter));
+  }
+
+  /**
+   * Snapshot of the job state.
+   *
+   * @return the {@link SummaryJobResponse}.
+   */
+  public synchronized SummaryJobResponse toResponse() {
+    SummaryJobResponse response = new SummaryJobResponse();
+    response.setId(id);
+    response.setStatus(status.name());
+    response.setAttempts(attempts);
+    response.setSummaries(summaries);
+    response.setError(error);
+    return response;
+  }
+
+  private synchronized void unsubscribe(SseEmitter emitter) {
+    emitters.remove(emitter);
+  }
+
+  private synchronized boolean isDone() {
+    return status == Status.SUCCEEDED || status == Status.FAILED;
+  }
+
+  private synchronized void complete(Status result, List<String> values, String cause) {
+    status = result;
+    summaries = values;
+    error = cause;
+    new ArrayList<>(emitters).forEach(this::send);
+    emitters.clear();
+  }
+
+  private void send(SseEmitter emitter) {
+    try {
+      emitter.send(SseEmitter.event().name("result").data(toResponse()));
+      emitter.complete();
+    } catch (IOException | IllegalStateException e) {
+      log.debug("Listener of job {} is gone", id, e);
+      emitter.completeWithError(e);
+    }
+  }
+}
@@ -0,0 +1,140 @@
+package com.smilebat.learntribe.processor.services.summaries;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runs personal summary generations as jobs, off the request threads.
+ *
+ * <p>Each attempt waits on the shared generation of the {@link PersonalSummaryCache} for at most
+ * the attempt timeout. A generation outliving it is dropped from the cache, so the retry starts a
+ * new one rather than waiting on the stuck call again. Failed attempts are retried with
+ * exponential backoff. Jobs are kept for a bounded time for polling.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@Slf4j
+@Service
+public class SummaryJobService {
+
+  private final PersonalSummaryCache summaryCache;
+
+  private final Cache<String, SummaryJob> jobs;
+
+  private final int maxAttempts;
+
+  private final Duration attemptTimeout;
+
+  private final Duration backoff;
+
+  /**
+   * Creates the service.
+   *
+   * @param summaryCache the {@link PersonalSummaryCache}.
+   * @param maxAttempts the maximum number of attempts per job.
+   * @param attemptTimeout the maximum duration of an attempt.
+   * @param backoff the delay before the first retry, doubled for every further retry.
+   * @param retention the time a job is kept for polling.
+   * @param maximumJobs the maximum number of jobs kept for polling.
+   */
+  public SummaryJobService(
+      PersonalSummaryCache summaryCache,
+      @Value("${resume.summaries.jobs.max-attempts:3}") int maxAttempts,
+      @Value("${resume.summaries.jobs.attempt-timeout:PT30S}") Duration attemptTimeout,
+      @Value("${resume.summaries.jobs.backoff:PT1S}") Duration backoff,
+      @Value("${resume.summaries.jobs.retention:PT1H}") Duration retention,
+      @Value("${resume.summaries.jobs.max-size:10000}") long maximumJobs) {
+    this.summaryCache = summaryCache;
+    this.maxAttempts = maxAttempts;
+    this.attemptTimeout = attemptTimeout;
+    this.backoff = backoff;
+    this.jobs = Caffeine.newBuilder().maximumSize(maximumJobs).expireAfterWrite(retention).build();
+  }
+
+  /**
+   * Submits a generation.
+   *
+   * @param keyCloakId the IAM id of the requester.
+   * @param skills the skills, null if unknown.
+   * @param role the current role, null if unknown.
+   * @return the {@link SummaryJob}.
+   * @throws RejectedExecutionException when the generation pool is saturated.
+   */
+  public SummaryJob submit(String keyCloakId, String skills, String role) {
+    final SummaryJob job = new SummaryJob(UUID.randomUUID().toString(), keyCloakId, skills, role);
+    if (role == null) {
+      job.succeed(List.of());
+      jobs.put(job.getId(), job);
+      return job;
+    }
+    final CompletableFuture<List<String>> first = summaryCache.get(skills, role);
+    jobs.put(job.getId(), job);
+    track(job, first, 1);
+    return job;
+  }
+
+  /**
+   * Finds a job of the requester.
+   *
+   * @param keyCloakId the IAM id of the requester.
+   * @param jobId the job id.
+   * @return the {@link SummaryJob}, empty if unknown, expired or owned by someone else.
+   */
+  public Optional<SummaryJob> find(String keyCloakId, String jobId) {
+    return Optional.ofNullable(jobs.getIfPresent(jobId))
+        .filter(job -> job.getKeyCloakId().equals(keyCloakId));
+  }
+
+  private void track(SummaryJob job, CompletableFuture<List<String>> generation, int attempt) {
+    job.running(attempt);
+    // Time out a copy, the generation itself is shared with other callers.
+    generation
+        .copy()
+        .orTimeout(attemptTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .whenComplete(
+            (summaries, error) -> {
+              if (error == null) {
+                job.succeed(summaries);
+                return;
+              }
+              if (error instanceof TimeoutException
+                  && summaryCache.abandon(job.getSkills(), job.getRole(), generation)) {
+                log.warn("Summary job {} abandoned a stuck generation", job.getId());
+              }
+              if (attempt >= maxAttempts) {
+                log.warn("Summary job {} failed after {} attempts", job.getId(), attempt, error);
+                job.fail(error);
+              } else {
+                retry(job, attempt + 1);
+              }
+            });
+  }
+
+  private void retry(SummaryJob job, int attempt) {
+    final long delay = backoff.toMillis() << (attempt - 2);
+    CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS)
+        .execute(
+            () -> {
+              CompletableFuture<List<String>> generation;
+              try {
+                generation = summaryCache.get(job.getSkills(), job.getRole());
+              } catch (RejectedExecutionException e) {
+                generation = CompletableFuture.failedFuture(e);
+              }
+              track(job, generation, attempt);
+            });
+  }
+}
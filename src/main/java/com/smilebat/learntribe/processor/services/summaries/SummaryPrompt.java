@@ -0,0 +1,20 @@
+package com.smilebat.learntribe.processor.services.summaries;
+
+import lombok.Value;
+
+/**
+ * Skills and current role of a candidate, as personal summaries are generated from.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@Value
+public class SummaryPrompt {
+
+  /** Comma separated skills as entered in the profile, null when unknown. */
+  String skills;
+
+  /** Designation of the latest work experience, null when unknown. */
+  String role;
+}
@@ -1,10 +1,8 @@
 package com.smilebat.learntribe.processor.util;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
 import java.time.Instant;
 import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
 import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -20,9 +18,7 @@ import org.springframework.stereotype.Component;
 @Component
 public class Commons {
   public static final String PATTERN_FORMAT = "yyyy-MM-dd";
-  private final SimpleDateFormat dateFormatter = new SimpleDateFormat(PATTERN_FORMAT);
-  private final DateTimeFormatter instantFormatter =
-      DateTimeFormatter.ofPattern(PATTERN_FORMAT).withZone(ZoneId.systemDefault());
+  private final DateCodec dateCodec = new DateCodec(ZoneId.systemDefault());
 
   /**
    * Converts input date string to {@link Instant}.
@@ -30,12 +26,10 @@ public class Commons {
    * @param date the input
    * @return the {@link Instant}
    */
-  // public Function<String,Instant> toInstant = (dateStr) ->
-  // dateFormatter.parse(dateStr).toInstant();
   public Instant toInstant(String date) {
     try {
-      return dateFormatter.parse(date).toInstant();
-    } catch (ParseException e) {
+      return dateCodec.parse(date);
+    } catch (DateTimeException e) {
       log.info("Unable to parse the input date {}", date);
       throw new RuntimeException(e);
     }
@@ -47,17 +41,10 @@ public class Commons {
    * @param instant the date from entity.
    * @return the string representation.
    */
-  public Function<Instant, String> formatInstant = (instant) -> instantFormatter.format(instant);
+  public Function<Instant, String> formatInstant = (instant) -> dateCodec.format(instant);
 
   @Override
   public String toString() {
-    return "Commons{"
-        + "dateFormatter="
-        + dateFormatter
-        + ", instantFormatter="
-        + instantFormatter
-        + ", formatInstant="
-        + formatInstant
-        + '}';
+    return "Commons{" + "dateCodec=" + dateCodec + ", formatInstant=" + formatInstant + '}';
   }
 }
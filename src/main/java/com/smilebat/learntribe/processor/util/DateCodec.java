@@ -0,0 +1,195 @@
+package com.smilebat.learntribe.processor.util;
+
+import java.text.ParsePosition;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+
+/**
+ * Thread safe codec between {@code yyyy-MM-dd} dates and the {@link Instant} of their start of day.
+ *
+ * <p>Well formed dates are parsed straight from the characters, without intermediate objects.
+ * Anything else, such as single digit months or days out of range, goes through a lenient {@link
+ * DateTimeFormatter}, as the previous {@link java.text.SimpleDateFormat} accepted it. Formatted
+ * dates are memoized per day, the memo is a fixed size table of immutable entries which is safe to
+ * share without locking.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+public final class DateCodec {
+
+  private static final int SECONDS_PER_DAY = 86_400;
+  private static final int MEMO_SIZE = 1 << 12;
+  private static final int DATE_LENGTH = 10;
+  private static final long DAYS_0000_TO_1970 = (146_097L * 5L) - (30L * 365L + 7L);
+  private final ZoneId zone;
+  /** The offset of the zone if it never changes, null otherwise. */
+  private final ZoneOffset fixedOffset;
+
+  private final DateTimeFormatter lenientParser;
+  private final Formatted[] memo = new Formatted[MEMO_SIZE];
+
+  /**
+   * Creates a codec for a zone.
+   *
+   * @param zone the {@link ZoneId} in which the days start.
+   */
+  public DateCodec(ZoneId zone) {
+    this.zone = zone;
+    this.fixedOffset =
+        zone.getRules().isFixedOffset() ? zone.getRules().getOffset(Instant.EPOCH) : null;
+    this.lenientParser =
+        DateTimeFormatter.ofPattern("y-M-d").withResolverStyle(ResolverStyle.LENIENT);
+  }
+
+  /**
+   * Parses a date, characters after the date are ignored.
+   *
+   * @param text the date.
+   * @return the {@link Instant} at the start of the day.
+   * @throws java.time.DateTimeException if the text is not a date.
+   */
+  public Instant parse(CharSequence text) {
+    final long epochDay = fastEpochDay(text);
+    if (epochDay != Long.MIN_VALUE) {
+      return startOfDay(epochDay);
+    }
+    final LocalDate date = LocalDate.from(lenientParser.parse(text, new ParsePosition(0)));
+    return date.atStartOfDay(zone).toInstant();
+  }
+
+  /**
+   * Formats the day of an {@link Instant}.
+   *
+   * @param instant the {@link Instant}.
+   * @return the {@code yyyy-MM-dd} date.
+   */
+  public String format(Instant instant) {
+    final long epochDay = epochDay(instant);
+    final int slot = (int) (epochDay & (MEMO_SIZE - 1));
+    final Formatted cached = memo[slot];
+    if (cached != null && cached.epochDay == epochDay) {
+      return cached.text;
+    }
+    final String text = toText(LocalDate.ofEpochDay(epochDay));
+    memo[slot] = new Formatted(epochDay, text);
+    return text;
+  }
+
+  private Instant startOfDay(long epochDay) {
+    if (fixedOffset != null) {
+      return Instant.ofEpochSecond(epochDay * SECONDS_PER_DAY - fixedOffset.getTotalSeconds());
+    }
+    return LocalDate.ofEpochDay(epochDay).atStartOfDay(zone).toInstant();
+  }
+
+  private long epochDay(Instant instant) {
+    if (fixedOffset != null) {
+      return Math.floorDiv(
+          instant.getEpochSecond() + fixedOffset.getTotalSeconds(), SECONDS_PER_DAY);
+    }
+    return instant.atZone(zone).getLong(ChronoField.EPOCH_DAY);
+  }
+
+  /**
+   * Parses a strictly valid {@code yyyy-MM-dd} date.
+   *
+   * @param text the date.
+   * @return the epoch day, {@link Long#MIN_VALUE} if the text is not a strictly valid date.
+   */
+  static long fastEpochDay(CharSequence text) {
+    if (text.length() < DATE_LENGTH || text.charAt(4) != '-' || text.charAt(7) != '-') {
+      return Long.MIN_VALUE;
+    }
+    final int year = digits(text, 0, 4);
+    final int month = digits(text, 5, 7);
+    final int day = digits(text, 8, 10);
+    if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+      return Long.MIN_VALUE;
+    }
+    return epochDay(year, month, day);
+  }
+
+  private static int digits(CharSequence text, int from, int to) {
+    int value = 0;
+    for (int i = from; i < to; i++) {
+      final int digit = text.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        return -1;
+      }
+      value = value * 10 + digit;
+    }
+    return value;
+  }
+
+  private static boolean isLeapYear(int year) {
+    return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+  }
+
+  private static int lengthOfMonth(int year, int month) {
+    switch (month) {
+      case 2:
+        return isLeapYear(year) ? 29 : 28;
+      case 4:
+      case 6:
+      case 9:
+      case 11:
+        return 30;
+      default:
+        return 31;
+    }
+  }
+
+  /** Same arithmetic as {@link LocalDate#toEpochDay()}, without creating the date. */
+  private static long epochDay(int year, int month, int day) {
+    long total = 365L * year;
+    total += (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+    total += (367 * month - 362) / 12;
+    total += day - 1;
+    if (month > 2) {
+      total--;
+      if (!isLeapYear(year)) {
+        total--;
+      }
+    }
+    return total - DAYS_0000_TO_1970;
+  }
+
+  private static String toText(LocalDate date) {
+    final char[] chars = new char[DATE_LENGTH];
+    final int year = date.getYear();
+    if (year < 0 || year > 9999) {
+      return date.format(DateTimeFormatter.ISO_LOCAL_DATE);
+    }
+    writeDigits(chars, 0, 4, year);
+    chars[4] = '-';
+    writeDigits(chars, 5, 7, date.getMonthValue());
+    chars[7] = '-';
+    writeDigits(chars, 8, 10, date.getDayOfMonth());
+    return new String(chars);
+  }
+
+  private static void writeDigits(char[] chars, int from, int to, int value) {
+    for (int i = to - 1; i >= from; i--) {
+      chars[i] = (char) ('0' + value % 10);
+      value /= 10;
+    }
+  }
+
+  /** A memoized formatted day. */
+  private static final class Formatted {
+    private final long epochDay;
+    private final String text;
+
+    private Formatted(long epochDay, String text) {
+      this.epochDay = epochDay;
+      this.text = text;
+    }
+  }
+}
@@ -0,0 +1,149 @@
+package com.smilebat.learntribe.processor;
+
+import com.smilebat.learntribe.dataaccess.jpa.entity.Resume;
+import com.smilebat.learntribe.dataaccess.jpa.entity.ResumeEducationExperience;
+import com.smilebat.learntribe.dataaccess.jpa.entity.ResumeSideProject;
+import com.smilebat.learntribe.dataaccess.jpa.entity.ResumeWorkExperience;
+import com.smilebat.learntribe.inquisitve.EducationalExpRequest;
+import com.smilebat.learntribe.inquisitve.SideProjectRequest;
+import com.smilebat.learntribe.inquisitve.WorkExperienceRequest;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Synthetic resumes and requests for the benchmarks, with the given number of experiences.
+ *
+ * <p>Experience {@code i} has the id {@code i + 1} in every collection, so that requests built
+ * here match the experiences of the resumes built here.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+public final class SyntheticResumes {
+
+  private static final LocalDate FIRST_DAY = LocalDate.of(2005, 1, 1);
+  private static final String DESCRIPTION =
+      "Designed, built and operated services handling millions of requests per day, "
+          + "mentored engineers and owned the on-call rotation of the team.";
+
+  private SyntheticResumes() {}
+
+  /**
+   * Creates a persisted looking resume.
+   *
+   * @param experiences the number of experiences of each kind.
+   * @return the {@link Resume}.
+   */
+  public static Resume resume(int experiences) {
+    Resume resume = new Resume();
+    resume.setKeyCloakId("benchmark");
+    resume.setName("Benchmark Candidate");
+    resume.setEmail("benchmark@smilebat.xyz");
+    resume.setAbout(DESCRIPTION);
+    Set<ResumeWorkExperience> workExperiences = new HashSet<>();
+    Set<ResumeEducationExperience> educationExperiences = new HashSet<>();
+    Set<ResumeSideProject> sideProjects = new HashSet<>();
+    for (int i = 0; i < experiences; i++) {
+      ResumeWorkExperience work = new ResumeWorkExperience();
+      work.setId(i + 1L);
+      work.setDesignation("Engineer " + i);
+      work.setOrgName("Org " + i);
+      work.setLocation("Bengaluru");
+      work.setDescription(DESCRIPTION);
+      work.setStartDate(day(i).atStartOfDay().toInstant(ZoneOffset.UTC));
+      work.setEndDate(day(i + 1).atStartOfDay().toInstant(ZoneOffset.UTC));
+      workExperiences.add(work);
+
+      ResumeEducationExperience education = new ResumeEducationExperience();
+      education.setId(i + 1L);
+      education.setDegree("Degree " + i);
+      education.setCollegeName("College " + i);
+      education.setFieldOfStudy("Computer Science");
+      education.setDateOfCompletion(day(i).atStartOfDay().toInstant(ZoneOffset.UTC));
+      educationExperiences.add(education);
+
+      ResumeSideProject sideProject = new ResumeSideProject();
+      sideProject.setId(i + 1L);
+      sideProject.setName("Project " + i);
+      sideProject.setDescription(DESCRIPTION);
+      sideProject.setUrl("https://smilebat.xyz/" + i);
+      sideProject.setStartDate(day(i).atStartOfDay().toInstant(ZoneOffset.UTC));
+      sideProjects.add(sideProject);
+    }
+    resume.setWorkExperiences(workExperiences);
+    resume.setEducationExperiences(educationExperiences);
+    resume.setSideProjects(sideProjects);
+    return resume;
+  }
+
+  /**
+   * Creates work experience requests.
+   *
+   * @param experiences the number of experiences.
+   * @return the List of {@link WorkExperienceRequest}.
+   */
+  public static List<WorkExperienceRequest> workExperiences(int experiences) {
+    List<WorkExperienceRequest> requests = new ArrayList<>(experiences);
+    for (int i = 0; i < experiences; i++) {
+      WorkExperienceRequest request = new WorkExperienceRequest();
+      request.setId(i + 1L);
+      request.setDesignation("Engineer " + i);
+      request.setOrgName("Org " + i);
+      request.setLocation("Bengaluru");
+      request.setDescription(DESCRIPTION);
+      request.setStartDate(day(i).toString());
+      request.setEndDate(day(i + 1).toString());
+      requests.add(request);
+    }
+    return requests;
+  }
+
+  /**
+   * Creates education experience requests.
+   *
+   * @param experiences the number of experiences.
+   * @return the List of {@link EducationalExpRequest}.
+   */
+  public static List<EducationalExpRequest> educationExperiences(int experiences) {
+    List<EducationalExpRequest> requests = new ArrayList<>(experiences);
+    for (int i = 0; i < experiences; i++) {
+      EducationalExpRequest request = new EducationalExpRequest();
+      request.setId(i + 1L);
+      request.setDegree("Degree " + i);
+      request.setCollegeName("College " + i);
+      request.setFieldOfStudy("Computer Science");
+      request.setDateOfCompletion(day(i).toString());
+      requests.add(request);
+    }
+    return requests;
+  }
+
+  /**
+   * Creates side project requests.
+   *
+   * @param experiences the number of side projects.
+   * @return the List of {@link SideProjectRequest}.
+   */
+  public static List<SideProjectRequest> sideProjects(int experiences) {
+    List<SideProjectRequest> requests = new ArrayList<>(experiences);
+    for (int i = 0; i < experiences; i++) {
+      SideProjectRequest request = new SideProjectRequest();
+      request.setId(i + 1L);
+      request.setName("Project " + i);
+      request.setDescription(DESCRIPTION);
+      request.setUrl("https://smilebat.xyz/" + i);
+      request.setStartDate(day(i).toString());
+      requests.add(request);
+    }
+    return requests;
+  }
+
+  private static LocalDate day(int index) {
+    return FIRST_DAY.plusMonths(index);
+  }
+}
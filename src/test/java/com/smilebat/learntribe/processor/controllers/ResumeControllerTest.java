@@ -0,0 +1,98 @@
+package com.smilebat.learntribe.processor.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.smilebat.learntribe.processor.dataaccess.FileMetadata;
+import com.smilebat.learntribe.processor.dataaccess.FileMetadataRepository;
+import com.smilebat.learntribe.processor.services.FileStorageService;
+import com.smilebat.learntribe.processor.services.storage.ContentCodec;
+import com.smilebat.learntribe.processor.services.storage.FileSystemContentStore;
+import com.smilebat.learntribe.processor.services.storage.StoredContent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+/**
+ * Tests the downloads of {@link ResumeController} against a filesystem content store.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+class ResumeControllerTest {
+
+  private static final String EMAIL = "candidate@smilebat.xyz";
+
+  /** Compresses well, so only the content type keeps it from being stored encoded. */
+  private static final byte[] PDF =
+      ("%PDF-1.4\n" + "1 0 obj << /Type /Page >> endobj\n".repeat(500))
+          .getBytes(StandardCharsets.US_ASCII);
+
+  @TempDir Path root;
+
+  private final FileMetadataRepository metadataRepository = mock(FileMetadataRepository.class);
+
+  private MockMvc mvc;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    FileSystemContentStore store = new FileSystemContentStore(root.toString(), 4096, 6, 0.1);
+    FileStorageService storageService = new FileStorageService();
+    ReflectionTestUtils.setField(storageService, "contentStore", store);
+    ReflectionTestUtils.setField(storageService, "metadataRepository", metadataRepository);
+    ReflectionTestUtils.setField(storageService, "meterRegistry", new SimpleMeterRegistry());
+    ReflectionTestUtils.setField(storageService, "codec", "gzip");
+    ReflectionTestUtils.setField(
+        storageService, "encodedTypes", Set.of("application/msword", "text/plain"));
+    storageService.registerMetrics();
+
+    StoredContent stored =
+        store.put(new ByteArrayResource(PDF), storageService.getCodecFor("application/pdf"));
+    assertEquals(ContentCodec.IDENTITY, stored.getCodec());
+    FileMetadata file = mock(FileMetadata.class);
+    when(file.getDigest()).thenReturn(stored.getDigest());
+    when(file.getCodec()).thenReturn(stored.getCodec().getContentEncoding());
+    when(file.getSize()).thenReturn((long) PDF.length);
+    when(metadataRepository.findByEmail(EMAIL)).thenReturn(Optional.of(file));
+
+    ResumeController controller = new ResumeController();
+    ReflectionTestUtils.setField(controller, "storageService", storageService);
+    mvc = MockMvcBuilders.standaloneSetup(controller).build();
+  }
+
+  @Test
+  void servesRangesOfStoredPdfsOnDecodedOffsets() throws Exception {
+    MvcResult result =
+        mvc.perform(
+                get("/api/v1/resume/download")
+                    .param("email", EMAIL)
+                    .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")
+                    .header(HttpHeaders.RANGE, "bytes=100-199"))
+            .andExpect(status().isPartialContent())
+            .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+            .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 100-199/" + PDF.length))
+            .andReturn();
+
+    assertArrayEquals(
+        Arrays.copyOfRange(PDF, 100, 200), result.getResponse().getContentAsByteArray());
+  }
+}
@@ -0,0 +1,106 @@
+package com.smilebat.learntribe.processor.converters;
+
+import com.smilebat.learntribe.dataaccess.jpa.entity.Resume;
+import com.smilebat.learntribe.dataaccess.jpa.entity.ResumeEducationExperience;
+import com.smilebat.learntribe.dataaccess.jpa.entity.ResumeSideProject;
+import com.smilebat.learntribe.dataaccess.jpa.entity.ResumeWorkExperience;
+import com.smilebat.learntribe.inquisitve.EducationalExpRequest;
+import com.smilebat.learntribe.inquisitve.SideProjectRequest;
+import com.smilebat.learntribe.inquisitve.WorkExperienceRequest;
+import com.smilebat.learntribe.processor.SyntheticResumes;
+import com.smilebat.learntribe.processor.util.Commons;
+import com.smilebat.learntribe.resume.response.ResumeBuilderResponse;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the resume converters over synthetic resumes of varying sizes.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConverterBenchmark {
+
+  @Param({"1", "10", "50"})
+  private int experiences;
+
+  private final Commons commons = new Commons();
+  private final ResumeWorkExpConverter workExpConverter = new ResumeWorkExpConverter(commons);
+  private final ResumeEdExpConverter edExpConverter = new ResumeEdExpConverter(commons);
+  private final SideProjectsConverter sideProjectsConverter = new SideProjectsConverter(commons);
+  private final ResumeConverter resumeConverter =
+      new ResumeConverter(workExpConverter, edExpConverter, sideProjectsConverter);
+
+  private List<Resume> resumes;
+  private List<WorkExperienceRequest> workRequests;
+  private List<EducationalExpRequest> educationRequests;
+  private List<SideProjectRequest> sideProjectRequests;
+
+  /** Builds the synthetic resumes and requests. */
+  @Setup
+  public void setUp() {
+    resumes = List.of(SyntheticResumes.resume(experiences), SyntheticResumes.resume(experiences));
+    workRequests = SyntheticResumes.workExperiences(experiences);
+    educationRequests = SyntheticResumes.educationExperiences(experiences);
+    sideProjectRequests = SyntheticResumes.sideProjects(experiences);
+  }
+
+  /**
+   * Converts the resumes of a user to responses.
+   *
+   * @return the responses.
+   */
+  @Benchmark
+  public List<ResumeBuilderResponse> resumeToResponse() {
+    return resumeConverter.toResponse(resumes);
+  }
+
+  /**
+   * Converts work experience requests to entities.
+   *
+   * @return the entities.
+   */
+  @Benchmark
+  public Set<ResumeWorkExperience> workExperiencesToEntities() {
+    return workExpConverter.toEntities(workRequests);
+  }
+
+  /**
+   * Converts education experience requests to entities.
+   *
+   * @return the entities.
+   */
+  @Benchmark
+  public Set<ResumeEducationExperience> educationExperiencesToEntities() {
+    return edExpConverter.toEntities(educationRequests);
+  }
+
+  /**
+   * Converts side project requests to entities.
+   *
+   * @return the entities.
+   */
+  @Benchmark
+  public Set<ResumeSideProject> sideProjectsToEntities() {
+    return sideProjectsConverter.toEntities(sideProjectRequests);
+  }
+}
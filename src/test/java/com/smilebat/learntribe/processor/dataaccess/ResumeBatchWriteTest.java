@@ -0,0 +1,133 @@
+package com.smilebat.learntribe.processor.dataaccess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.smilebat.learntribe.dataaccess.jpa.entity.Resume;
+import com.smilebat.learntribe.dataaccess.jpa.entity.ResumeEducationExperience;
+import com.smilebat.learntribe.dataaccess.jpa.entity.ResumeSideProject;
+import com.smilebat.learntribe.dataaccess.jpa.entity.ResumeWorkExperience;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Verifies that the experiences of a resume are written in batches, with ids from a sequence.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class ResumeBatchWriteTest {
+
+  private static final int EXPERIENCES = 20;
+
+  private static final List<String> TABLES =
+      List.of("resume_work_experience", "resume_education_experience", "resume_side_project");
+
+  @Autowired private TestEntityManager entityManager;
+
+  @Autowired private DataSource dataSource;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    statistics =
+        entityManager
+            .getEntityManager()
+            .getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+    statistics.clear();
+  }
+
+  @Test
+  void largeResumeIsInsertedInFewStatements() {
+    entityManager.persist(newResume(EXPERIENCES));
+    entityManager.flush();
+
+    assertEquals(1 + 3 * EXPERIENCES, statistics.getEntityInsertCount());
+    long statements = statistics.getPrepareStatementCount();
+    assertTrue(statements <= 12, "Expected batched writes, got " + statements + " statements");
+  }
+
+  @Test
+  void experiencesAreNotGivenIdsInsertedBeforeTheSequence() {
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    for (String table : TABLES) {
+      for (long id = 1001; id <= 1050; id++) {
+        jdbcTemplate.update("INSERT INTO " + table + " (id) VALUES (?)", id);
+      }
+    }
+    new ExperienceSequenceInitializer(
+            jdbcTemplate, entityManager.getEntityManager().getEntityManagerFactory())
+        .alignSequence();
+
+    // more than an allocation, so that ids are taken from the restarted sequence
+    entityManager.persist(newResume(60));
+    entityManager.flush();
+
+    for (String table : TABLES) {
+      assertEquals(
+          110, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class), table);
+    }
+  }
+
+  private static Resume newResume(int experiences) {
+    Resume resume = new Resume();
+    resume.setKeyCloakId("candidate");
+    resume.setName("Resume");
+    resume.setEmail("candidate@smilebat.xyz");
+    Set<ResumeWorkExperience> workExperiences = new HashSet<>();
+    Set<ResumeEducationExperience> educationExperiences = new HashSet<>();
+    Set<ResumeSideProject> sideProjects = new HashSet<>();
+    for (int i = 0; i < experiences; i++) {
+      ResumeWorkExperience work = new ResumeWorkExperience();
+      work.setDesignation("Developer " + i);
+      work.setOrgName("Org " + i);
+      work.setStartDate(Instant.parse("2020-01-01T00:00:00Z"));
+      workExperiences.add(work);
+
+      ResumeEducationExperience education = new ResumeEducationExperience();
+      education.setDegree("Degree " + i);
+      education.setCollegeName("College " + i);
+      education.setDateOfCompletion(Instant.parse("2019-06-01T00:00:00Z"));
+      educationExperiences.add(education);
+
+      ResumeSideProject sideProject = new ResumeSideProject();
+      sideProject.setName("Project " + i);
+      sideProject.setUrl("https://smilebat.xyz/" + i);
+      sideProjects.add(sideProject);
+    }
+    resume.setWorkExperiences(workExperiences);
+    resume.setEducationExperiences(educationExperiences);
+    resume.setSideProjects(sideProjects);
+    return resume;
+  }
+
+  /** Slice configuration, limited to the entities and the repositories of this service. */
+  @Configuration
+  @EntityScan({
+    "com.smilebat.learntribe.dataaccess.jpa",
+    "com.smilebat.learntribe.processor.dataaccess.jpa"
+  })
+  @EnableJpaRepositories(basePackageClasses = ResumeBatchWriteTest.class)
+  static class Config {}
+}
@@ -0,0 +1,119 @@
+package com.smilebat.learntribe.processor.dataaccess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.smilebat.learntribe.dataaccess.jpa.entity.Resume;
+import com.smilebat.learntribe.dataaccess.jpa.entity.ResumeEducationExperience;
+import com.smilebat.learntribe.dataaccess.jpa.entity.ResumeSideProject;
+import com.smilebat.learntribe.dataaccess.jpa.entity.ResumeWorkExperience;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Verifies that {@link ResumeDeletionRepository} removes a resume with all its experiences.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class ResumeDeletionRepositoryTest {
+
+  private static final int EXPERIENCES = 5;
+
+  @Autowired private ResumeDeletionRepository repository;
+
+  @Autowired private TestEntityManager entityManager;
+
+  private Long deleted;
+
+  private Long kept;
+
+  @BeforeEach
+  void setUp() {
+    deleted = entityManager.persistAndGetId(newResume("deleted"), Long.class);
+    kept = entityManager.persistAndGetId(newResume("kept"), Long.class);
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  void deletesResumeAndAllItsExperiences() {
+    assertEquals("deleted", repository.findKeyCloakIdById(deleted).orElseThrow());
+
+    assertEquals(EXPERIENCES, repository.deleteEducationExperiences(deleted));
+    assertEquals(EXPERIENCES, repository.deleteWorkExperiences(deleted));
+    assertEquals(EXPERIENCES, repository.deleteSideProjects(deleted));
+    assertEquals(1, repository.deleteResume(deleted));
+
+    assertNull(entityManager.find(Resume.class, deleted));
+    assertEquals(EXPERIENCES, count(ResumeWorkExperience.class));
+    assertEquals(EXPERIENCES, count(ResumeEducationExperience.class));
+    assertEquals(EXPERIENCES, count(ResumeSideProject.class));
+
+    Resume resume = entityManager.find(Resume.class, kept);
+    assertEquals(EXPERIENCES, resume.getWorkExperiences().size());
+    assertEquals(EXPERIENCES, resume.getEducationExperiences().size());
+    assertEquals(EXPERIENCES, resume.getSideProjects().size());
+  }
+
+  private long count(Class<?> entity) {
+    return entityManager
+        .getEntityManager()
+        .createQuery("select count(e) from " + entity.getSimpleName() + " e", Long.class)
+        .getSingleResult();
+  }
+
+  private static Resume newResume(String keyCloakId) {
+    Resume resume = new Resume();
+    resume.setKeyCloakId(keyCloakId);
+    resume.setName("Resume");
+    resume.setEmail(keyCloakId + "@smilebat.xyz");
+    Set<ResumeWorkExperience> workExperiences = new HashSet<>();
+    Set<ResumeEducationExperience> educationExperiences = new HashSet<>();
+    Set<ResumeSideProject> sideProjects = new HashSet<>();
+    for (int i = 0; i < EXPERIENCES; i++) {
+      ResumeWorkExperience work = new ResumeWorkExperience();
+      work.setDesignation("Developer " + i);
+      work.setOrgName("Org " + i);
+      work.setStartDate(Instant.parse("2020-01-01T00:00:00Z"));
+      workExperiences.add(work);
+
+      ResumeEducationExperience education = new ResumeEducationExperience();
+      education.setDegree("Degree " + i);
+      education.setCollegeName("College " + i);
+      education.setDateOfCompletion(Instant.parse("2019-06-01T00:00:00Z"));
+      educationExperiences.add(education);
+
+      ResumeSideProject sideProject = new ResumeSideProject();
+      sideProject.setName("Project " + i);
+      sideProject.setUrl("https://smilebat.xyz/" + i);
+      sideProjects.add(sideProject);
+    }
+    resume.setWorkExperiences(workExperiences);
+    resume.setEducationExperiences(educationExperiences);
+    resume.setSideProjects(sideProjects);
+    return resume;
+  }
+
+  /** Slice configuration, limited to the entities and the repositories of this service. */
+  @Configuration
+  @EntityScan({
+    "com.smilebat.learntribe.dataaccess.jpa",
+    "com.smilebat.learntribe.processor.dataaccess.jpa"
+  })
+  @EnableJpaRepositories(basePackageClasses = ResumeDeletionRepository.class)
+  static class Config {}
+}
@@ -0,0 +1,188 @@
+package com.smilebat.learntribe.processor.dataaccess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.smilebat.learntribe.dataaccess.jpa.entity.Resume;
+import com.smilebat.learntribe.dataaccess.jpa.entity.ResumeEducationExperience;
+import com.smilebat.learntribe.dataaccess.jpa.entity.ResumeSideProject;
+import com.smilebat.learntribe.dataaccess.jpa.entity.ResumeWorkExperience;
+import com.smilebat.learntribe.processor.converters.ResumeConverter;
+import com.smilebat.learntribe.processor.converters.ResumeEdExpConverter;
+import com.smilebat.learntribe.processor.converters.ResumeWorkExpConverter;
+import com.smilebat.learntribe.processor.converters.SideProjectsConverter;
+import com.smilebat.learntribe.processor.util.Commons;
+import com.smilebat.learntribe.resume.response.ResumeBuilderResponse;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Verifies the fetch plan of {@link ResumeQueryRepository}.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class ResumeQueryRepositoryTest {
+
+  private static final String KEYCLOAK_ID = "candidate";
+
+  private static final AtomicLong ROWS = new AtomicLong();
+
+  @Autowired private ResumeQueryRepository repository;
+
+  @Autowired private TestEntityManager entityManager;
+
+  private final Commons commons = new Commons();
+
+  private final ResumeConverter converter =
+      new ResumeConverter(
+          new ResumeWorkExpConverter(commons),
+          new ResumeEdExpConverter(commons),
+          new SideProjectsConverter(commons));
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    for (int i = 0; i < 3; i++) {
+      entityManager.persist(newResume(i, 5));
+    }
+    entityManager.flush();
+    entityManager.clear();
+    statistics =
+        entityManager
+            .getEntityManager()
+            .getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+    statistics.clear();
+    ROWS.set(0);
+  }
+
+  @Test
+  void fetchesResumesAndExperiencesWithoutCartesianProduct() {
+    List<ResumeBuilderResponse> responses =
+        converter.toResponse(repository.findWithExperiencesByKeyCloakId(KEYCLOAK_ID));
+
+    assertEquals(3, responses.size());
+    responses.forEach(
+        response -> {
+          assertEquals(5, response.getWorkExperiences().size());
+          assertEquals(5, response.getEducationExperiences().size());
+          assertEquals(5, response.getSideProjects().size());
+        });
+    assertEquals(3, statistics.getPrepareStatementCount());
+    // one row per experience, where joining all collections would read 3 * 5 * 5 * 5
+    assertEquals(45, ROWS.get());
+  }
+
+  private static Resume newResume(int index, int experiences) {
+    Resume resume = new Resume();
+    resume.setKeyCloakId(KEYCLOAK_ID);
+    resume.setName("Resume " + index);
+    resume.setEmail("candidate@smilebat.xyz");
+    Set<ResumeWorkExperience> workExperiences = new HashSet<>();
+    Set<ResumeEducationExperience> educationExperiences = new HashSet<>();
+    Set<ResumeSideProject> sideProjects = new HashSet<>();
+    for (int i = 0; i < experiences; i++) {
+      ResumeWorkExperience work = new ResumeWorkExperience();
+      work.setDesignation("Developer " + i);
+      work.setOrgName("Org " + i);
+      work.setStartDate(Instant.parse("2020-01-01T00:00:00Z"));
+      workExperiences.add(work);
+
+      ResumeEducationExperience education = new ResumeEducationExperience();
+      education.setDegree("Degree " + i);
+      education.setCollegeName("College " + i);
+      education.setDateOfCompletion(Instant.parse("2019-06-01T00:00:00Z"));
+      educationExperiences.add(education);
+
+      ResumeSideProject sideProject = new ResumeSideProject();
+      sideProject.setName("Project " + i);
+      sideProject.setUrl("https://smilebat.xyz/" + i);
+      sideProjects.add(sideProject);
+    }
+    resume.setWorkExperiences(workExperiences);
+    resume.setEducationExperiences(educationExperiences);
+    resume.setSideProjects(sideProjects);
+    return resume;
+  }
+
+  /** Slice configuration, limited to the entities and the repositories of this service. */
+  @Configuration
+  @EntityScan({
+    "com.smilebat.learntribe.dataaccess.jpa",
+    "com.smilebat.learntribe.processor.dataaccess.jpa"
+  })
+  @EnableJpaRepositories(basePackageClasses = ResumeQueryRepository.class)
+  static class Config {
+
+    @Bean
+    static BeanPostProcessor rowCountingDataSource() {
+      return new BeanPostProcessor() {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+          return bean instanceof DataSource ? countRows(bean, DataSource.class) : bean;
+        }
+      };
+    }
+
+    /**
+     * Proxies a JDBC object, counting the rows read from the result sets it hands out.
+     *
+     * @param target the JDBC object.
+     * @param type the interface to proxy.
+     * @return the proxy.
+     */
+    private static Object countRows(Object target, Class<?> type) {
+      final InvocationHandler handler =
+          (proxy, method, args) -> {
+            final Object result;
+            try {
+              result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+              throw e.getCause();
+            }
+            if (target instanceof ResultSet && "next".equals(method.getName())) {
+              if (Boolean.TRUE.equals(result)) {
+                ROWS.incrementAndGet();
+              }
+              return result;
+            }
+            for (Class<?> wrapped : List.of(Connection.class, Statement.class, ResultSet.class)) {
+              if (wrapped.isAssignableFrom(method.getReturnType()) && result != null) {
+                return countRows(result, method.getReturnType());
+              }
+            }
+            return result;
+          };
+      return Proxy.newProxyInstance(
+          ResumeQueryRepositoryTest.class.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+  }
+}
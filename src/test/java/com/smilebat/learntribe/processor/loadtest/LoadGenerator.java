@@ -0,0 +1,253 @@
+package com.smilebat.learntribe.processor.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closed model load generator: every virtual user runs a weighted mix of operations back to back
+ * for the given duration and records the latency of each call after the warm up.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+public final class LoadGenerator {
+
+  /** A call against the application. */
+  @FunctionalInterface
+  public interface Operation {
+    /**
+     * Performs the call.
+     *
+     * @param user the index of the virtual user.
+     * @return true if the call succeeded.
+     * @throws Exception on failure.
+     */
+    boolean call(int user) throws Exception;
+  }
+
+  private final Map<String, Operation> operations = new LinkedHashMap<>();
+  private final List<String> weighted = new ArrayList<>();
+
+  /**
+   * Adds an operation to the mix.
+   *
+   * @param name the name of the operation in the report.
+   * @param weight the relative weight of the operation.
+   * @param operation the {@link Operation}.
+   * @return this.
+   */
+  public LoadGenerator operation(String name, int weight, Operation operation) {
+    operations.put(name, operation);
+    for (int i = 0; i < weight; i++) {
+      weighted.add(name);
+    }
+    return this;
+  }
+
+  /**
+   * Runs the mix.
+   *
+   * @param users the number of concurrent virtual users.
+   * @param warmup the time during which latencies are not recorded.
+   * @param duration the measured time.
+   * @return the results per operation, in the order the operations were added.
+   * @throws Exception on failure of the generator itself.
+   */
+  public List<Result> run(int users, Duration warmup, Duration duration) throws Exception {
+    final long start = System.nanoTime();
+    final long measureFrom = start + warmup.toNanos();
+    final long end = measureFrom + duration.toNanos();
+    final ExecutorService executor = Executors.newFixedThreadPool(users);
+    final List<Future<Map<String, Recorder>>> futures = new ArrayList<>(users);
+    try {
+      for (int u = 0; u < users; u++) {
+        final int user = u;
+        futures.add(executor.submit(() -> runUser(user, measureFrom, end)));
+      }
+      final Map<String, Recorder> merged = new LinkedHashMap<>();
+      operations.keySet().forEach(name -> merged.put(name, new Recorder()));
+      final long timeout = end - System.nanoTime() + TimeUnit.MINUTES.toNanos(1);
+      for (Future<Map<String, Recorder>> future : futures) {
+        future.get(timeout, TimeUnit.NANOSECONDS).forEach((name, r) -> merged.get(name).add(r));
+      }
+      final List<Result> results = new ArrayList<>(merged.size());
+      merged.forEach((name, recorder) -> results.add(recorder.toResult(name, duration)));
+      return results;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private Map<String, Recorder> runUser(int user, long measureFrom, long end) {
+    final Map<String, Recorder> recorders = new LinkedHashMap<>();
+    operations.keySet().forEach(name -> recorders.put(name, new Recorder()));
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+    long now = System.nanoTime();
+    while (now < end) {
+      final String name = weighted.get(random.nextInt(weighted.size()));
+      boolean success;
+      try {
+        success = operations.get(name).call(user);
+      } catch (Exception e) {
+        success = false;
+      }
+      final long finished = System.nanoTime();
+      if (now >= measureFrom) {
+        recorders.get(name).record(finished - now, success);
+      }
+      now = finished;
+    }
+    return recorders;
+  }
+
+  /** Latencies of one operation, in nanoseconds. */
+  private static final class Recorder {
+    private long[] latencies = new long[1024];
+    private int count;
+    private int errors;
+
+    void record(long latency, boolean success) {
+      if (count == latencies.length) {
+        latencies = Arrays.copyOf(latencies, count * 2);
+      }
+      latencies[count++] = latency;
+      if (!success) {
+        errors++;
+      }
+    }
+
+    void add(Recorder other) {
+      for (int i = 0; i < other.count; i++) {
+        record(other.latencies[i], true);
+      }
+      errors += other.errors;
+    }
+
+    Result toResult(String name, Duration duration) {
+      final long[] sorted = Arrays.copyOf(latencies, count);
+      Arrays.sort(sorted);
+      return new Result(
+          name,
+          count,
+          errors,
+          count / (duration.toNanos() / 1e9),
+          percentile(sorted, 0.50),
+          percentile(sorted, 0.99),
+          count == 0 ? 0 : sorted[count - 1]);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+      if (sorted.length == 0) {
+        return 0;
+      }
+      final int index = (int) Math.ceil(percentile * sorted.length) - 1;
+      return sorted[Math.max(0, index)];
+    }
+  }
+
+  /** The measured throughput and latencies of one operation. */
+  public static final class Result {
+    private final String name;
+    private final int count;
+    private final int errors;
+    private final double throughput;
+    private final long p50;
+    private final long p99;
+    private final long max;
+
+    private Result(
+        String name, int count, int errors, double throughput, long p50, long p99, long max) {
+      this.name = name;
+      this.count = count;
+      this.errors = errors;
+      this.throughput = throughput;
+      this.p50 = p50;
+      this.p99 = p99;
+      this.max = max;
+    }
+
+    /**
+     * The number of failed calls.
+     *
+     * @return the errors.
+     */
+    public int getErrors() {
+      return errors;
+    }
+
+    /**
+     * The number of measured calls.
+     *
+     * @return the count.
+     */
+    public int getCount() {
+      return count;
+    }
+
+    /**
+     * Formats the result as a line of the report table.
+     *
+     * @return the line.
+     */
+    public String toLine() {
+      return String.format(
+          Locale.ROOT,
+          "%-22s %9d %7d %10.1f %10.2f %10.2f %10.2f",
+          name,
+          count,
+          errors,
+          throughput,
+          p50 / 1e6,
+          p99 / 1e6,
+          max / 1e6);
+    }
+
+    /**
+     * Formats the result as JSON, latencies in milliseconds.
+     *
+     * @return the JSON object.
+     */
+    public String toJson() {
+      return String.format(
+          Locale.ROOT,
+          "{\"operation\":\"%s\",\"count\":%d,\"errors\":%d,\"throughput\":%.2f,"
+              + "\"p50\":%.3f,\"p99\":%.3f,\"max\":%.3f}",
+          name,
+          count,
+          errors,
+          throughput,
+          p50 / 1e6,
+          p99 / 1e6,
+          max / 1e6);
+    }
+
+    /**
+     * The header of the report table.
+     *
+     * @return the header line.
+     */
+    public static String header() {
+      return String.format(
+          Locale.ROOT,
+          "%-22s %9s %7s %10s %10s %10s %10s",
+          "operation",
+          "count",
+          "errors",
+          "ops/s",
+          "p50 ms",
+          "p99 ms",
+          "max ms");
+    }
+  }
+}
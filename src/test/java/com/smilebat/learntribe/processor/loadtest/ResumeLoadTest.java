@@ -0,0 +1,356 @@
+package com.smilebat.learntribe.processor.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.smilebat.learntribe.dataaccess.UserProfileRepository;
+import com.smilebat.learntribe.dataaccess.jpa.entity.UserProfile;
+import com.smilebat.learntribe.dataaccess.jpa.entity.WorkExperience;
+import com.smilebat.learntribe.processor.services.summaries.SummaryGenerator;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.SecureRandom;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Load test of the resume builder and resume download endpoints.
+ *
+ * <p>Boots the whole application against H2 in PostgreSQL mode, a local {@link
+ * StubIdentityProvider} in place of Keycloak and a {@link SummaryGenerator} stub in place of
+ * OpenAI, then drives a mix of requests through the real controllers, security chain and TLS
+ * connector. The throughput and the p50/p99 latencies per operation are printed and written to
+ * {@code target/loadtest/report.json}.
+ *
+ * <p>Disabled by default, run with {@code mvn test -Dtest=ResumeLoadTest -Dloadtest=true}. The
+ * mix is tuned with the {@code loadtest.*} properties of {@code application-loadtest.yml}.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"test", "loadtest"})
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class ResumeLoadTest {
+
+  private static final StubIdentityProvider IDENTITY_PROVIDER = StubIdentityProvider.start();
+  private static final String BOUNDARY = "loadtest-boundary";
+  private static final double MAX_ERROR_RATE = 0.01;
+
+  @LocalServerPort private int port;
+
+  @Value("${loadtest.users}")
+  private int users;
+
+  @Value("${loadtest.warmup}")
+  private Duration warmup;
+
+  @Value("${loadtest.duration}")
+  private Duration duration;
+
+  @Autowired private UserProfileRepository profileRepository;
+
+  @Autowired private TransactionTemplate transactionTemplate;
+
+  private final ObjectMapper mapper = new ObjectMapper();
+  private final AtomicLong edits = new AtomicLong();
+
+  private HttpClient client;
+  private List<String> tokens;
+  private List<String> keyCloakIds;
+  private List<ObjectNode> resumes;
+  private byte[] pdf;
+
+  @DynamicPropertySource
+  static void identityProvider(DynamicPropertyRegistry registry) {
+    registry.add("feign.client.url.keycloak", IDENTITY_PROVIDER::getBaseUrl);
+  }
+
+  @AfterAll
+  static void stopIdentityProvider() {
+    IDENTITY_PROVIDER.close();
+  }
+
+  @Test
+  void sustainsTheResumeMix() throws Exception {
+    client = newClient();
+    pdf = newPdf(256 * 1024);
+    seed();
+
+    List<LoadGenerator.Result> results =
+        new LoadGenerator()
+            .operation("resume.fetch", 40, this::fetchResumes)
+            .operation("resume.update", 20, this::updateResume)
+            .operation("resume.download", 25, this::download)
+            .operation("resume.download.bulk", 5, this::bulkDownload)
+            .operation("resume.build.about", 10, this::personalSummaries)
+            .run(users, warmup, duration);
+
+    report(results);
+    for (LoadGenerator.Result result : results) {
+      assertTrue(result.getCount() > 0);
+      assertTrue(
+          result.getErrors() <= result.getCount() * MAX_ERROR_RATE, result.toLine().trim());
+    }
+  }
+
+  private void seed() throws Exception {
+    tokens = new ArrayList<>(users);
+    keyCloakIds = new ArrayList<>(users);
+    resumes = new ArrayList<>(users);
+    for (int u = 0; u < users; u++) {
+      final String keyCloakId = "loadtest-" + u;
+      keyCloakIds.add(keyCloakId);
+      tokens.add(IDENTITY_PROVIDER.token(keyCloakId, duration.plus(warmup).multipliedBy(4)));
+      seedProfile(keyCloakId);
+
+      assertEquals(201, send(u, "POST", "/api/v1/resume", newResume(u)).statusCode());
+      HttpResponse<String> fetched =
+          client.send(request(u, "/api/v1/resume").GET().build(), bodyAsString());
+      resumes.add((ObjectNode) mapper.readTree(fetched.body()).get(0));
+      assertEquals(200, upload(u).statusCode());
+    }
+  }
+
+  private void seedProfile(String keyCloakId) {
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          UserProfile profile = new UserProfile();
+          profile.setKeyCloakId(keyCloakId);
+          profile.setSkills("java, spring boot, postgresql, kubernetes");
+          WorkExperience work = new WorkExperience();
+          work.setDesignation("Software Engineer");
+          work.setOrgName("Smile Bat");
+          work.setStartDate(Instant.parse("2020-01-01T00:00:00Z"));
+          Set<WorkExperience> workExperiences = new HashSet<>();
+          workExperiences.add(work);
+          profile.setWorkExperiences(workExperiences);
+          profileRepository.save(profile);
+        });
+  }
+
+  private boolean fetchResumes(int user) throws Exception {
+    return client.send(request(user, "/api/v1/resume").GET().build(), discarding()).statusCode()
+        == 200;
+  }
+
+  private boolean updateResume(int user) throws Exception {
+    final ObjectNode resume = resumes.get(user).deepCopy();
+    final JsonNode workExperiences = resume.get("workExperiences");
+    if (workExperiences != null && workExperiences.size() > 0) {
+      ((ObjectNode) workExperiences.get(0))
+          .put("description", "Edited description " + edits.incrementAndGet());
+    }
+    return send(user, "PUT", "/api/v1/resume", mapper.writeValueAsString(resume)).statusCode()
+        == 200;
+  }
+
+  private boolean download(int user) throws Exception {
+    return client
+            .send(request(user, "/api/v1/resume/download").GET().build(), discarding())
+            .statusCode()
+        == 200;
+  }
+
+  private boolean bulkDownload(int user) throws Exception {
+    final String ids =
+        IntStream.range(0, 10)
+            .mapToObj(i -> "\"" + keyCloakIds.get((user + i) % users) + "\"")
+            .collect(Collectors.joining(","));
+    final HttpRequest request =
+        request(user, "/api/v1/resume/download/bulk")
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString("{\"keyCloakIds\":[" + ids + "]}"))
+            .build();
+    return client.send(request, discarding()).statusCode() == 200;
+  }
+
+  private boolean personalSummaries(int user) throws Exception {
+    return client
+            .send(
+                request(user, "/api/v1/resume/build/about?page=1&limit=5").GET().build(),
+                discarding())
+            .statusCode()
+        == 200;
+  }
+
+  private HttpResponse<String> send(int user, String method, String path, String json)
+      throws IOException, InterruptedException {
+    final HttpRequest request =
+        request(user, path)
+            .header("Content-Type", "application/json")
+            .method(method, HttpRequest.BodyPublishers.ofString(json))
+            .build();
+    return client.send(request, bodyAsString());
+  }
+
+  private HttpResponse<String> upload(int user) throws IOException, InterruptedException {
+    final ByteArrayOutputStream body = new ByteArrayOutputStream();
+    body.writeBytes(
+        ("--"
+                + BOUNDARY
+                + "\r\nContent-Disposition: form-data; name=\"file\"; filename=\"resume.pdf\""
+                + "\r\nContent-Type: application/pdf\r\n\r\n")
+            .getBytes(StandardCharsets.UTF_8));
+    body.writeBytes(pdf);
+    body.writeBytes(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+    final HttpRequest request =
+        request(user, "/api/v1/resume/upload?email=" + keyCloakIds.get(user) + "@smilebat.xyz")
+            .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+            .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+            .build();
+    return client.send(request, bodyAsString());
+  }
+
+  private HttpRequest.Builder request(int user, String path) {
+    return HttpRequest.newBuilder(URI.create("https://localhost:" + port + path))
+        .timeout(Duration.ofSeconds(30))
+        .header("Authorization", "Bearer " + tokens.get(user));
+  }
+
+  private static HttpResponse.BodyHandler<String> bodyAsString() {
+    return HttpResponse.BodyHandlers.ofString();
+  }
+
+  private static HttpResponse.BodyHandler<Void> discarding() {
+    return HttpResponse.BodyHandlers.discarding();
+  }
+
+  private static String newResume(int user) {
+    final StringBuilder work = new StringBuilder();
+    for (int i = 0; i < 5; i++) {
+      work.append(i == 0 ? "" : ",")
+          .append("{\"designation\":\"Engineer ")
+          .append(i)
+          .append("\",\"orgName\":\"Org ")
+          .append(i)
+          .append("\",\"startDate\":\"201")
+          .append(i)
+          .append("-01-01\",\"endDate\":\"201")
+          .append(i + 1)
+          .append("-01-01\",\"description\":\"Built and operated services.\"}");
+    }
+    return "{\"name\":\"Load Test "
+        + user
+        + "\",\"email\":\"loadtest-"
+        + user
+        + "@smilebat.xyz\",\"about\":\"Engineer.\",\"workExperiences\":["
+        + work
+        + "],\"educationExperiences\":[{\"degree\":\"B.E.\",\"collegeName\":\"College\","
+        + "\"dateOfCompletion\":\"2010-06-01\"}],"
+        + "\"sideProjects\":[{\"name\":\"Project\",\"url\":\"https://smilebat.xyz\"}]}";
+  }
+
+  private static byte[] newPdf(int size) {
+    final byte[] pdf = new byte[size];
+    new SecureRandom().nextBytes(pdf);
+    final byte[] header = "%PDF-1.4\n".getBytes(StandardCharsets.US_ASCII);
+    System.arraycopy(header, 0, pdf, 0, header.length);
+    return pdf;
+  }
+
+  private void report(List<LoadGenerator.Result> results) throws IOException {
+    final StringBuilder table = new StringBuilder();
+    table
+        .append(String.format("%d users, %s measured%n", users, duration))
+        .append(LoadGenerator.Result.header())
+        .append(System.lineSeparator());
+    results.forEach(result -> table.append(result.toLine()).append(System.lineSeparator()));
+    log.info("Load test results{}{}", System.lineSeparator(), table);
+
+    final Path report = Paths.get("target", "loadtest", "report.json");
+    Files.createDirectories(report.getParent());
+    final String json =
+        results
+            .stream()
+            .map(LoadGenerator.Result::toJson)
+            .collect(Collectors.joining(",", "[", "]"));
+    Files.writeString(
+        report,
+        String.format(
+            "{\"users\":%d,\"duration\":\"%s\",\"results\":%s}", users, duration, json));
+  }
+
+  /** The TLS connector of the application serves a self signed certificate. */
+  private static HttpClient newClient() throws Exception {
+    System.setProperty("jdk.internal.httpclient.disableHostnameVerification", "true");
+    final TrustManager trustAll =
+        new X509TrustManager() {
+          @Override
+          public void checkClientTrusted(X509Certificate[] chain, String authType) {}
+
+          @Override
+          public void checkServerTrusted(X509Certificate[] chain, String authType) {}
+
+          @Override
+          public X509Certificate[] getAcceptedIssuers() {
+            return new X509Certificate[0];
+          }
+        };
+    final SSLContext sslContext = SSLContext.getInstance("TLS");
+    sslContext.init(null, new TrustManager[] {trustAll}, new SecureRandom());
+    return HttpClient.newBuilder()
+        .sslContext(sslContext)
+        .connectTimeout(Duration.ofSeconds(10))
+        .build();
+  }
+
+  /** Replaces the OpenAI backed generator with a canned one of similar latency. */
+  @TestConfiguration
+  static class StubOpenAi {
+
+    @Bean
+    @Primary
+    SummaryGenerator stubSummaryGenerator(@Value("${loadtest.openai-latency}") Duration latency) {
+      return (skills, role, count) -> {
+        try {
+          Thread.sleep(latency.toMillis());
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return IntStream.range(0, count)
+            .mapToObj(i -> "A " + role + " skilled in " + skills + ", summary " + i + ".")
+            .collect(Collectors.toList());
+      };
+    }
+  }
+}
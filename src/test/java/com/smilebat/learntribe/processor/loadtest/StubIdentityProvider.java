@@ -0,0 +1,140 @@
+package com.smilebat.learntribe.processor.loadtest;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Local stand in for Keycloak, publishing the OpenID discovery document and the signing keys of
+ * the {@code master} realm and minting RS256 access tokens.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+public final class StubIdentityProvider implements AutoCloseable {
+
+  private static final String REALM = "/realms/master";
+
+  private final HttpServer server;
+  private final RSAKey signingKey;
+  private final String baseUrl;
+
+  private StubIdentityProvider(HttpServer server, RSAKey signingKey) {
+    this.server = server;
+    this.signingKey = signingKey;
+    this.baseUrl = "http://localhost:" + server.getAddress().getPort();
+  }
+
+  /**
+   * Starts the identity provider on a free port.
+   *
+   * @return the started {@link StubIdentityProvider}.
+   */
+  public static StubIdentityProvider start() {
+    try {
+      final RSAKey key = new RSAKeyGenerator(2048).keyID(UUID.randomUUID().toString()).generate();
+      final HttpServer server =
+          HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+      final StubIdentityProvider provider = new StubIdentityProvider(server, key);
+      server.createContext(REALM + "/.well-known/openid-configuration", provider::discovery);
+      server.createContext(REALM + "/protocol/openid-connect/certs", provider::keys);
+      server.start();
+      return provider;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } catch (JOSEException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * The base url, to be used as {@code feign.client.url.keycloak}.
+   *
+   * @return the base url.
+   */
+  public String getBaseUrl() {
+    return baseUrl;
+  }
+
+  /**
+   * Mints an access token.
+   *
+   * @param subject the IAM id of the user.
+   * @param validity the validity of the token.
+   * @return the serialized token.
+   */
+  public String token(String subject, Duration validity) {
+    final Instant now = Instant.now();
+    final JWTClaimsSet claims =
+        new JWTClaimsSet.Builder()
+            .issuer(issuer())
+            .subject(subject)
+            .issueTime(Date.from(now))
+            .expirationTime(Date.from(now.plus(validity)))
+            .claim("scope", "openid profile email")
+            .build();
+    final SignedJWT jwt =
+        new SignedJWT(
+            new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(signingKey.getKeyID()).build(),
+            claims);
+    try {
+      jwt.sign(new RSASSASigner(signingKey));
+    } catch (JOSEException e) {
+      throw new IllegalStateException(e);
+    }
+    return jwt.serialize();
+  }
+
+  private String issuer() {
+    return baseUrl + REALM;
+  }
+
+  private void discovery(HttpExchange exchange) throws IOException {
+    final String document =
+        "{\"issuer\":\""
+            + issuer()
+            + "\",\"jwks_uri\":\""
+            + issuer()
+            + "/protocol/openid-connect/certs\","
+            + "\"subject_types_supported\":[\"public\"],"
+            + "\"id_token_signing_alg_values_supported\":[\"RS256\"]}";
+    respond(exchange, document);
+  }
+
+  private void keys(HttpExchange exchange) throws IOException {
+    respond(exchange, new JWKSet(signingKey.toPublicJWK()).toString());
+  }
+
+  private static void respond(HttpExchange exchange, String json) throws IOException {
+    final byte[] body = json.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+  }
+}
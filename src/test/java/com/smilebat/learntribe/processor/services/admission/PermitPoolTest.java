@@ -0,0 +1,92 @@
+package com.smilebat.learntribe.processor.services.admission;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.smilebat.learntribe.processor.services.admission.PermitPool.Admission;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link PermitPool}.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+class PermitPoolTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+  @AfterEach
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private PermitPool pool(int limit, int maxWaiting, Duration maxWait) {
+    return new PermitPool("test", "kibibytes", limit, maxWaiting, maxWait, registry);
+  }
+
+  private double gauge(String name) {
+    return registry.get(name).tag("pool", "test").gauge().value();
+  }
+
+  @Test
+  void chargesRequestsAndExportsUsage() throws InterruptedException {
+    PermitPool pool = pool(100, 1, Duration.ofMillis(10));
+
+    assertEquals(Admission.ADMITTED, pool.acquire(60));
+    assertEquals(60D, gauge("resume.admission.permits"));
+    assertEquals(100D, gauge("resume.admission.limit"));
+    assertEquals(Admission.TIMED_OUT, pool.acquire(60));
+
+    pool.release(60);
+    assertEquals(0D, gauge("resume.admission.permits"));
+    assertEquals(
+        1D,
+        registry.get("resume.admission.rejected").tag("reason", "timed_out").counter().count());
+  }
+
+  @Test
+  void admitsOversizedRequestsAlone() throws InterruptedException {
+    PermitPool pool = pool(100, 1, Duration.ofMillis(10));
+
+    assertEquals(Admission.ADMITTED, pool.acquire(500));
+    assertEquals(100, pool.getUsed());
+    assertEquals(Admission.TIMED_OUT, pool.acquire(1));
+
+    pool.release(500);
+    assertEquals(0, pool.getUsed());
+  }
+
+  @Test
+  void rejectsPastTheWaitQueue() throws Exception {
+    PermitPool pool = pool(1, 1, Duration.ofSeconds(10));
+    assertEquals(Admission.ADMITTED, pool.acquire(1));
+    CountDownLatch started = new CountDownLatch(1);
+    Future<Admission> waiter =
+        executor.submit(
+            () -> {
+              started.countDown();
+              return pool.acquire(1);
+            });
+    started.await();
+    while (pool.getWaiting() == 0) {
+      Thread.onSpinWait();
+    }
+
+    assertEquals(Admission.QUEUE_FULL, pool.acquire(1));
+    assertEquals(1D, gauge("resume.admission.waiting"));
+
+    pool.release(1);
+    assertEquals(Admission.ADMITTED, waiter.get(5, TimeUnit.SECONDS));
+    assertEquals(0, pool.getWaiting());
+  }
+}
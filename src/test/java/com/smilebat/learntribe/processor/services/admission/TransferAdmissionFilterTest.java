@@ -0,0 +1,56 @@
+package com.smilebat.learntribe.processor.services.admission;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Tests the requests selected by {@link TransferAdmissionFilter}.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+class TransferAdmissionFilterTest {
+
+  private final TransferAdmissionFilter filter =
+      new TransferAdmissionFilter(
+          new SimpleMeterRegistry(),
+          DataSize.ofMegabytes(200),
+          DataSize.ofMegabytes(50),
+          32,
+          16,
+          Duration.ofSeconds(2),
+          Duration.ofSeconds(5));
+
+  @Test
+  void admitsTransfersWithOrWithoutTrailingSlash() {
+    assertTrue(filtered("POST", "/api/v1/resume/upload"));
+    assertTrue(filtered("POST", "/api/v1/resume/upload/"));
+    assertTrue(filtered("GET", "/api/v1/resume/download"));
+    assertTrue(filtered("GET", "/api/v1/resume/download/"));
+    assertTrue(filtered("POST", "/api/v1/resume/download/bulk/"));
+  }
+
+  @Test
+  void admitsTheFileExport() {
+    assertTrue(filtered("GET", "/api/v1/resume/admin/files"));
+    assertTrue(filtered("GET", "/api/v1/resume/admin/files/"));
+  }
+
+  @Test
+  void leavesOtherEndpointsUnthrottled() {
+    assertFalse(filtered("GET", "/api/v1/resume/upload"));
+    assertFalse(filtered("GET", "/api/v1/resume/"));
+    assertFalse(filtered("POST", "/api/v1/resume/admin/search/index"));
+  }
+
+  private boolean filtered(String method, String path) {
+    return !filter.shouldNotFilter(new MockHttpServletRequest(method, path));
+  }
+}
@@ -0,0 +1,130 @@
+package com.smilebat.learntribe.processor.services.experiences;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.smilebat.learntribe.dataaccess.ResumeEducationExperienceRepository;
+import com.smilebat.learntribe.dataaccess.ResumeSideProjectRepository;
+import com.smilebat.learntribe.dataaccess.ResumeWorkExperienceRepository;
+import com.smilebat.learntribe.dataaccess.jpa.entity.Resume;
+import com.smilebat.learntribe.dataaccess.jpa.entity.ResumeSideProject;
+import com.smilebat.learntribe.inquisitve.SideProjectRequest;
+import com.smilebat.learntribe.processor.converters.ResumeEdExpConverter;
+import com.smilebat.learntribe.processor.converters.ResumeWorkExpConverter;
+import com.smilebat.learntribe.processor.converters.SideProjectsConverter;
+import com.smilebat.learntribe.processor.services.experiences.strategy.EducationExperienceStartegy;
+import com.smilebat.learntribe.processor.services.experiences.strategy.SideProjectStrategy;
+import com.smilebat.learntribe.processor.services.experiences.strategy.WorkExperienceStartegy;
+import com.smilebat.learntribe.processor.util.Commons;
+import com.smilebat.learntribe.resume.ResumeBuilderRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Saves many resumes concurrently through one shared {@link ExperienceService} and verifies there
+ * is no cross-talk.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+class ConcurrentExperienceSaveTest {
+
+  private static final int THREADS = 16;
+  private static final int SAVES_PER_THREAD = 500;
+
+  private final Commons commons = new Commons();
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+  private final ExperienceService service =
+      new ExperienceService(
+          new WorkExperienceStartegy(registry),
+          new ResumeWorkExpConverter(commons),
+          mock(ResumeWorkExperienceRepository.class),
+          new EducationExperienceStartegy(registry),
+          new ResumeEdExpConverter(commons),
+          mock(ResumeEducationExperienceRepository.class),
+          new SideProjectStrategy(registry),
+          new SideProjectsConverter(commons),
+          mock(ResumeSideProjectRepository.class));
+
+  @Test
+  void concurrentSavesNeverMixResumes() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<Integer>> results = new ArrayList<>();
+      for (int t = 0; t < THREADS; t++) {
+        final String owner = "user-" + t;
+        final long firstId = t * 1_000_000L;
+        Callable<Integer> saves =
+            () -> {
+              start.await();
+              int verified = 0;
+              for (int i = 0; i < SAVES_PER_THREAD; i++) {
+                verified += save(owner, firstId + i * 10L);
+              }
+              return verified;
+            };
+        results.add(executor.submit(saves));
+      }
+      start.countDown();
+      for (Future<Integer> result : results) {
+        assertEquals(SAVES_PER_THREAD, result.get(1, TimeUnit.MINUTES));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private int save(String owner, long firstId) {
+    Resume resume = new Resume();
+    resume.setKeyCloakId(owner);
+    Set<ResumeSideProject> existing = new HashSet<>();
+    for (int i = 0; i < 3; i++) {
+      ResumeSideProject project = new ResumeSideProject();
+      project.setId(firstId + i);
+      project.setName(owner + " project " + i);
+      existing.add(project);
+    }
+    resume.setSideProjects(existing);
+
+    List<SideProjectRequest> sideProjects = new ArrayList<>();
+    sideProjects.add(projectRequest(firstId, owner + " project 0"));
+    sideProjects.add(projectRequest(firstId + 1, owner + " project 1, edited"));
+    sideProjects.add(projectRequest(null, owner + " project 3"));
+    ResumeBuilderRequest request = new ResumeBuilderRequest();
+    request.setSideProjects(sideProjects);
+
+    service.saveAllExperiences(request, resume);
+
+    assertTrue(resume.getWorkExperiences().isEmpty());
+    assertTrue(resume.getEducationExperiences().isEmpty());
+    Set<ResumeSideProject> saved = resume.getSideProjects();
+    assertEquals(3, saved.size());
+    for (ResumeSideProject project : saved) {
+      assertTrue(project.getName().startsWith(owner + " "), project.getName());
+      Long id = project.getId();
+      assertTrue(id == null || (id >= firstId && id < firstId + 3), String.valueOf(id));
+    }
+    return 1;
+  }
+
+  private static SideProjectRequest projectRequest(Long id, String name) {
+    SideProjectRequest request = new SideProjectRequest();
+    request.setId(id);
+    request.setName(name);
+    return request;
+  }
+}
@@ -0,0 +1,83 @@
+package com.smilebat.learntribe.processor.services.experiences;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.smilebat.learntribe.dataaccess.jpa.entity.ResumeSideProject;
+import java.util.List;
+import java.util.Objects;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies the reconciliation of {@link ExperienceDiff}.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+class ExperienceDiffTest {
+
+  @Test
+  void onlyChangedExperiencesAreUpdated() {
+    List<ResumeSideProject> existing =
+        List.of(project(1L, "first"), project(2L, "second"), project(3L, "third"));
+    List<ResumeSideProject> requested =
+        List.of(project(1L, "first"), project(2L, "second, edited"), project(3L, "third"));
+
+    ExperienceDiff<ResumeSideProject> diff =
+        ExperienceDiff.compute(existing, requested, ExperienceDiffTest::merge);
+
+    assertEquals(List.of(existing.get(1)), diff.getUpdated());
+    assertEquals("second, edited", existing.get(1).getName());
+    assertTrue(diff.getInserted().isEmpty());
+    assertTrue(diff.getDeleted().isEmpty());
+    assertEquals(3, diff.getExperiences().size());
+    diff.getExperiences().forEach(experience -> assertTrue(existing.contains(experience)));
+  }
+
+  @Test
+  void unmatchedExperiencesAreInsertedOrDeleted() {
+    ResumeSideProject kept = project(1L, "kept");
+    ResumeSideProject removed = project(2L, "removed");
+    ResumeSideProject added = project(null, "added");
+    ResumeSideProject foreign = project(42L, "foreign");
+
+    ExperienceDiff<ResumeSideProject> diff =
+        ExperienceDiff.compute(
+            List.of(kept, removed),
+            List.of(project(1L, "kept"), added, foreign),
+            ExperienceDiffTest::merge);
+
+    assertEquals(List.of(removed), diff.getDeleted());
+    assertEquals(List.of(added, foreign), diff.getInserted());
+    assertNull(foreign.getId());
+    assertTrue(diff.getUpdated().isEmpty());
+    assertSame(kept, diff.getExperiences().get(0));
+  }
+
+  @Test
+  void unchangedRequestIsEmpty() {
+    ExperienceDiff<ResumeSideProject> diff =
+        ExperienceDiff.compute(
+            List.of(project(1L, "same")), List.of(project(1L, "same")), ExperienceDiffTest::merge);
+
+    assertTrue(diff.isEmpty());
+  }
+
+  private static boolean merge(ResumeSideProject source, ResumeSideProject target) {
+    if (Objects.equals(source.getName(), target.getName())) {
+      return false;
+    }
+    target.setName(source.getName());
+    return true;
+  }
+
+  private static ResumeSideProject project(Long id, String name) {
+    ResumeSideProject project = new ResumeSideProject();
+    project.setId(id);
+    project.setName(name);
+    return project;
+  }
+}
@@ -0,0 +1,139 @@
+package com.smilebat.learntribe.processor.services.experiences;
+
+import static org.mockito.Mockito.mock;
+
+import com.smilebat.learntribe.dataaccess.ResumeEducationExperienceRepository;
+import com.smilebat.learntribe.dataaccess.ResumeSideProjectRepository;
+import com.smilebat.learntribe.dataaccess.ResumeWorkExperienceRepository;
+import com.smilebat.learntribe.dataaccess.jpa.entity.Resume;
+import com.smilebat.learntribe.inquisitve.EducationalExpRequest;
+import com.smilebat.learntribe.inquisitve.SideProjectRequest;
+import com.smilebat.learntribe.inquisitve.WorkExperienceRequest;
+import com.smilebat.learntribe.processor.SyntheticResumes;
+import com.smilebat.learntribe.processor.converters.ResumeEdExpConverter;
+import com.smilebat.learntribe.processor.converters.ResumeWorkExpConverter;
+import com.smilebat.learntribe.processor.converters.SideProjectsConverter;
+import com.smilebat.learntribe.processor.services.experiences.context.EducationExperienceContext;
+import com.smilebat.learntribe.processor.services.experiences.context.SideProjectContext;
+import com.smilebat.learntribe.processor.services.experiences.context.WorkExperienceContext;
+import com.smilebat.learntribe.processor.services.experiences.strategy.EducationExperienceStartegy;
+import com.smilebat.learntribe.processor.services.experiences.strategy.SideProjectStrategy;
+import com.smilebat.learntribe.processor.services.experiences.strategy.WorkExperienceStartegy;
+import com.smilebat.learntribe.processor.util.Commons;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the reconciliation of the experiences of a resume against an update request.
+ *
+ * <p>The request edits one experience of each kind, drops the last one and adds a new one. As the
+ * reconciliation mutates the resume, every iteration runs a fixed batch of {@value #BATCH}
+ * reconciliations, each on its own resume built before the iteration. The score is the time of a
+ * batch, so milliseconds per batch read as microseconds per reconciliation.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 20, batchSize = ExperienceStrategyBenchmark.BATCH)
+@Measurement(iterations = 10, batchSize = ExperienceStrategyBenchmark.BATCH)
+@Fork(1)
+public class ExperienceStrategyBenchmark {
+
+  static final int BATCH = 1000;
+
+  @Param({"1", "10", "50"})
+  private int experiences;
+
+  private final Commons commons = new Commons();
+  private final ResumeWorkExpConverter workExpConverter = new ResumeWorkExpConverter(commons);
+  private final ResumeEdExpConverter edExpConverter = new ResumeEdExpConverter(commons);
+  private final SideProjectsConverter sideProjectsConverter = new SideProjectsConverter(commons);
+
+  private final ResumeWorkExperienceRepository workRepository =
+      mock(ResumeWorkExperienceRepository.class);
+  private final ResumeEducationExperienceRepository educationRepository =
+      mock(ResumeEducationExperienceRepository.class);
+  private final ResumeSideProjectRepository sideProjectRepository =
+      mock(ResumeSideProjectRepository.class);
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final WorkExperienceStartegy workStrategy = new WorkExperienceStartegy(registry);
+  private final EducationExperienceStartegy educationStrategy =
+      new EducationExperienceStartegy(registry);
+  private final SideProjectStrategy sideProjectStrategy = new SideProjectStrategy(registry);
+
+  private List<WorkExperienceRequest> workRequests;
+  private List<EducationalExpRequest> educationRequests;
+  private List<SideProjectRequest> sideProjectRequests;
+  private final List<Resume> resumes = new ArrayList<>(BATCH);
+  private int next;
+
+  /** Builds the update requests. */
+  @Setup
+  public void setUpRequests() {
+    workRequests = SyntheticResumes.workExperiences(experiences);
+    workRequests.get(0).setDescription("Edited");
+    workRequests.remove(workRequests.size() - 1);
+    workRequests.addAll(SyntheticResumes.workExperiences(1));
+    workRequests.get(workRequests.size() - 1).setId(null);
+
+    educationRequests = SyntheticResumes.educationExperiences(experiences);
+    educationRequests.get(0).setDegree("Edited");
+    educationRequests.remove(educationRequests.size() - 1);
+    educationRequests.addAll(SyntheticResumes.educationExperiences(1));
+    educationRequests.get(educationRequests.size() - 1).setId(null);
+
+    sideProjectRequests = SyntheticResumes.sideProjects(experiences);
+    sideProjectRequests.get(0).setDescription("Edited");
+    sideProjectRequests.remove(sideProjectRequests.size() - 1);
+    sideProjectRequests.addAll(SyntheticResumes.sideProjects(1));
+    sideProjectRequests.get(sideProjectRequests.size() - 1).setId(null);
+  }
+
+  /** Builds the persisted resumes the requests of an iteration are applied to. */
+  @Setup(Level.Iteration)
+  public void setUpResumes() {
+    resumes.clear();
+    for (int i = 0; i < BATCH; i++) {
+      resumes.add(SyntheticResumes.resume(experiences));
+    }
+    next = 0;
+  }
+
+  /**
+   * Reconciles all experiences of the resume.
+   *
+   * @return the updated {@link Resume}.
+   */
+  @Benchmark
+  public Resume updateExperiences() {
+    final Resume resume = resumes.get(next++);
+    workStrategy.updateExperiences(
+        new WorkExperienceContext(workExpConverter, workRepository, workRequests, resume));
+    educationStrategy.updateExperiences(
+        new EducationExperienceContext(
+            edExpConverter, educationRepository, educationRequests, resume));
+    sideProjectStrategy.updateExperiences(
+        new SideProjectContext(
+            sideProjectsConverter, sideProjectRepository, sideProjectRequests, resume));
+    return resume;
+  }
+}
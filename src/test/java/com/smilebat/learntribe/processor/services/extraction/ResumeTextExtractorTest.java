@@ -0,0 +1,167 @@
+package com.smilebat.learntribe.processor.services.extraction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.smilebat.learntribe.processor.dataaccess.ResumeTextRepository;
+import com.smilebat.learntribe.processor.dataaccess.jpa.entity.ResumeText;
+import com.smilebat.learntribe.processor.services.search.ResumeSearchService;
+import com.smilebat.learntribe.processor.services.storage.ContentStore;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Tests for {@link ResumeTextExtractor}, backed by an in memory text repository.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+class ResumeTextExtractorTest {
+
+  private final ContentStore contentStore = mock(ContentStore.class);
+  private final ResumeTextRepository repository = mock(ResumeTextRepository.class);
+  private final ResumeSearchService searchService = mock(ResumeSearchService.class);
+  private final Map<String, ResumeText> texts = new ConcurrentHashMap<>();
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+  private ResumeTextExtractor extractor;
+
+  @BeforeEach
+  void setUp() {
+    executor.setCorePoolSize(2);
+    executor.setMaxPoolSize(2);
+    executor.setQueueCapacity(10);
+    executor.initialize();
+    when(contentStore.contains(anyString())).thenReturn(true);
+    when(repository.existsById(anyString())).thenAnswer(i -> texts.containsKey(i.getArgument(0)));
+    when(repository.deleteByDigest(anyString()))
+        .thenAnswer(i -> texts.remove(i.<String>getArgument(0)) == null ? 0 : 1);
+    when(repository.save(any(ResumeText.class)))
+        .thenAnswer(
+            i -> {
+              ResumeText text = i.getArgument(0);
+              texts.put(text.getDigest(), text);
+              return text;
+            });
+    extractor =
+        new ResumeTextExtractor(contentStore, repository, searchService, executor, registry, 1000);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdown();
+  }
+
+  @Test
+  void storesTextAndPageCount() throws Exception {
+    when(contentStore.read("a")).thenAnswer(i -> pdf("Senior Java Developer", "Kafka"));
+
+    assertTrue(extractor.submit("a"));
+    awaitJobs(1);
+
+    ResumeText text = texts.get("a");
+    assertEquals(ResumeText.Status.EXTRACTED, text.getStatus());
+    assertEquals(2, text.getPages());
+    assertTrue(text.getText().contains("Senior Java Developer"));
+    assertTrue(text.getText().contains("Kafka"));
+  }
+
+  @Test
+  void identicalContentIsExtractedOnce() throws Exception {
+    when(contentStore.read("a")).thenAnswer(i -> pdf("Resume"));
+
+    extractor.submit("a");
+    awaitJobs(1);
+    extractor.submit("a");
+    awaitJobs(2);
+
+    verify(contentStore, times(1)).read("a");
+    verify(searchService, times(2)).reindexOwners("a");
+    assertEquals(1, timer("skipped").count());
+  }
+
+  @Test
+  void unreadableContentIsRecordedAsFailed() throws Exception {
+    when(contentStore.read("b"))
+        .thenAnswer(i -> new ByteArrayInputStream("not a pdf".getBytes(StandardCharsets.UTF_8)));
+
+    extractor.submit("b");
+    awaitJobs(1);
+
+    assertEquals(ResumeText.Status.FAILED, texts.get("b").getStatus());
+    assertNull(texts.get("b").getText());
+  }
+
+  @Test
+  void textOfContentCollectedWhileExtractingIsDropped() throws Exception {
+    when(contentStore.read("c")).thenAnswer(i -> pdf("Resume"));
+    when(contentStore.contains("c")).thenReturn(false);
+
+    extractor.submit("c");
+    awaitJobs(1);
+
+    assertNull(texts.get("c"));
+    assertEquals(1, timer("released").count());
+    verify(searchService, never()).reindexOwners("c");
+  }
+
+  private void awaitJobs(long jobs) throws InterruptedException {
+    final long deadline = System.currentTimeMillis() + 10_000;
+    while (completedJobs() < jobs) {
+      assertTrue(System.currentTimeMillis() < deadline, "Timed out waiting for extractions");
+      Thread.sleep(10);
+    }
+  }
+
+  private long completedJobs() {
+    return registry.find("resume.extraction.duration").timers().stream()
+        .mapToLong(Timer::count)
+        .sum();
+  }
+
+  private Timer timer(String outcome) {
+    return registry.get("resume.extraction.duration").tag("outcome", outcome).timer();
+  }
+
+  private static ByteArrayInputStream pdf(String... pages) throws IOException {
+    try (PDDocument document = new PDDocument()) {
+      for (String line : pages) {
+        PDPage page = new PDPage();
+        document.addPage(page);
+        try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+          content.beginText();
+          content.setFont(PDType1Font.HELVETICA, 12);
+          content.newLineAtOffset(72, 700);
+          content.showText(line);
+          content.endText();
+        }
+      }
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      document.save(out);
+      return new ByteArrayInputStream(out.toByteArray());
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package com.smilebat.learntribe.processor.services.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Highlighter}.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+class HighlighterTest {
+
+  @Test
+  void marksRequiredTermsCaseInsensitively() {
+    Highlighter highlighter = Highlighter.of("java +KAFKA", 160, 3);
+
+    assertEquals(
+        List.of("Built <em>Kafka</em> pipelines in <em>Java</em> 11"),
+        highlighter.highlight("Built Kafka pipelines in Java 11"));
+  }
+
+  @Test
+  void skipsNegatedTermsAndExpandsPrefixes() {
+    Highlighter highlighter = Highlighter.of("spring* -php", 160, 3);
+
+    assertEquals(
+        List.of("<em>Spring</em> Boot and <em>SpringCloud</em>, some PHP"),
+        highlighter.highlight("Spring Boot and SpringCloud, some PHP"));
+  }
+
+  @Test
+  void escapesMarkupAroundMatches() {
+    Highlighter highlighter = Highlighter.of("\"c++ developer\"", 160, 3);
+
+    assertEquals(
+        List.of("&lt;b&gt;<em>C</em>++ <em>Developer</em>&lt;/b&gt;"),
+        highlighter.highlight("<b>C++ Developer</b>"));
+  }
+
+  @Test
+  void limitsFragmentsOfLongTexts() {
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < 50; i++) {
+      text.append("Lorem ipsum dolor sit amet, Kafka consectetur adipiscing elit sed do. ");
+    }
+    List<String> fragments = Highlighter.of("kafka", 80, 3).highlight(text.toString());
+
+    assertEquals(3, fragments.size());
+    for (String fragment : fragments) {
+      assertTrue(fragment.contains("<em>Kafka</em>"), fragment);
+      assertTrue(fragment.length() < 120, fragment);
+    }
+  }
+
+  @Test
+  void returnsNoFragmentsWithoutMatches() {
+    assertTrue(Highlighter.of("golang", 160, 3).highlight("Java and Kafka").isEmpty());
+    assertTrue(Highlighter.of("golang", 160, 3).highlight(null).isEmpty());
+  }
+}
@@ -0,0 +1,123 @@
+package com.smilebat.learntribe.processor.services.skills;
+
+import com.smilebat.learntribe.processor.models.SkillMatchResponse;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks boolean skill queries against a {@link SkillIndex} of synthetic candidates.
+ *
+ * <p>Every candidate lists eight skills drawn from a vocabulary of two thousand with a Zipf like
+ * skew, so the first skills are listed by a large share of the candidates as in real resumes.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class SkillIndexBenchmark {
+
+  private static final String[] POPULAR = {
+    "java", "javascript", "python", "sql", "kafka", "spring boot", "php", "docker", "aws", "react"
+  };
+  private static final int VOCABULARY = 2000;
+  private static final int SKILLS_PER_CANDIDATE = 8;
+
+  @Param({"100000", "500000"})
+  private int candidates;
+
+  private SkillIndex index;
+
+  /** Builds the index. */
+  @Setup
+  public void setUp() {
+    index = new SkillIndex(null, null);
+    final Random random = new Random(42);
+    final double[] weights = new double[VOCABULARY];
+    double total = 0;
+    for (int i = 0; i < VOCABULARY; i++) {
+      total += 1D / (i + 1);
+      weights[i] = total;
+    }
+    for (int id = 1; id <= candidates; id++) {
+      final StringBuilder skills = new StringBuilder();
+      for (int s = 0; s < SKILLS_PER_CANDIDATE; s++) {
+        skills.append(skill(weights, random.nextDouble() * total)).append(',');
+      }
+      final long resumeId = id;
+      final String listed = skills.toString();
+      index.apply(postings -> postings.add(resumeId, listed));
+    }
+    index.apply(SkillPostings::optimize);
+  }
+
+  private static String skill(double[] weights, double point) {
+    int low = 0;
+    int high = weights.length - 1;
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (weights[mid] < point) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low < POPULAR.length ? POPULAR[low] : "skill-" + low;
+  }
+
+  /**
+   * Two popular skills without a third.
+   *
+   * @return the matches.
+   */
+  @Benchmark
+  public SkillMatchResponse popularAndNot() {
+    return index.match("Java AND Kafka AND NOT PHP", 20);
+  }
+
+  /**
+   * A disjunction intersected with a popular skill.
+   *
+   * @return the matches.
+   */
+  @Benchmark
+  public SkillMatchResponse disjunction() {
+    return index.match("(Python OR \"Spring Boot\" OR React) AND SQL AND NOT Docker", 20);
+  }
+
+  /**
+   * A rare skill intersected with popular ones.
+   *
+   * @return the matches.
+   */
+  @Benchmark
+  public SkillMatchResponse rareAndPopular() {
+    return index.match("skill-1500 AND Java AND NOT AWS", 20);
+  }
+
+  /**
+   * The complement of a popular skill.
+   *
+   * @return the matches.
+   */
+  @Benchmark
+  public SkillMatchResponse negation() {
+    return index.match("NOT javascript", 20);
+  }
+}
@@ -0,0 +1,78 @@
+package com.smilebat.learntribe.processor.services.skills;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.smilebat.learntribe.learntribevalidator.learntribeexceptions.InvalidDataException;
+import com.smilebat.learntribe.processor.models.SkillMatchResponse;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link SkillIndex} and {@link SkillQuery}.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+class SkillIndexTest {
+
+  private final SkillIndex index = new SkillIndex(null, null);
+
+  @BeforeEach
+  void setUp() {
+    index.apply(postings -> postings.add(1, "Java, Kafka"));
+    index.apply(postings -> postings.add(2, "java,PHP"));
+    index.apply(postings -> postings.add(3, "Python , Kafka"));
+    index.apply(postings -> postings.add(4, "Spring  Boot, Java"));
+    index.apply(postings -> postings.add(4, "kafka"));
+    index.apply(postings -> postings.add(5, null));
+  }
+
+  @Test
+  void answersBooleanQueries() {
+    assertMatches("Java AND Kafka AND NOT PHP", 4L, 1L);
+    assertMatches("(java or python) and kafka", 4L, 3L, 1L);
+    assertMatches("NOT kafka", 5L, 2L);
+    assertMatches("spring boot AND \"JAVA\"", 4L);
+    assertMatches("NOT java AND NOT python", 5L);
+    assertMatches("cobol");
+  }
+
+  @Test
+  void returnsTheCountAndTheLatestIds() {
+    SkillMatchResponse response = index.match("kafka OR php", 2);
+
+    assertEquals(4, response.getCount());
+    assertEquals(List.of(4L, 3L), response.getResumeIds());
+  }
+
+  @Test
+  void updatesReplaceAndRemoveSkills() {
+    index.apply(postings -> postings.put(1, Set.of("go")));
+    index.apply(postings -> postings.remove(4));
+
+    assertMatches("java", 2L);
+    assertMatches("go", 1L);
+    assertMatches("NOT kafka", 5L, 2L, 1L);
+  }
+
+  @Test
+  void rejectsMalformedQueries() {
+    assertThrows(InvalidDataException.class, () -> index.match("java AND", 10));
+    assertThrows(InvalidDataException.class, () -> index.match("(java OR kafka", 10));
+    assertThrows(InvalidDataException.class, () -> index.match("java )", 10));
+    assertThrows(InvalidDataException.class, () -> index.match(" ", 10));
+    assertThrows(
+        InvalidDataException.class, () -> index.match("(".repeat(10_000) + "java", 10));
+    assertThrows(InvalidDataException.class, () -> index.match("NOT ".repeat(10_000) + "java", 10));
+  }
+
+  private void assertMatches(String query, Long... ids) {
+    SkillMatchResponse response = index.match(query, 10);
+    assertEquals(List.of(ids), response.getResumeIds(), query);
+    assertEquals(ids.length, response.getCount(), query);
+  }
+}
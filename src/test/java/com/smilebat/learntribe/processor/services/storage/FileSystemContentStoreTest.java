@@ -0,0 +1,144 @@
+package com.smilebat.learntribe.processor.services.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+/**
+ * Tests for {@link FileSystemContentStore} and {@link ContentCodec}.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+class FileSystemContentStoreTest {
+
+  private static final byte[] TEXT =
+      "Senior Java developer, Spring Boot and Kafka. "
+          .repeat(2000)
+          .getBytes(StandardCharsets.UTF_8);
+
+  @TempDir Path root;
+
+  private FileSystemContentStore store() throws IOException {
+    return new FileSystemContentStore(root.toString(), 4096, 6, 0.1);
+  }
+
+  private static byte[] readAll(InputStream in) throws IOException {
+    try (InputStream content = in) {
+      return content.readAllBytes();
+    }
+  }
+
+  @Test
+  void compressesAndDecodesOnRead() throws IOException {
+    FileSystemContentStore store = store();
+
+    StoredContent stored = store.put(new ByteArrayResource(TEXT), ContentCodec.GZIP);
+
+    assertTrue(stored.isCreated());
+    assertEquals(ContentCodec.GZIP, stored.getCodec());
+    assertEquals(TEXT.length, stored.getSize());
+    assertTrue(stored.getStoredSize() < TEXT.length / 10);
+    assertArrayEquals(TEXT, readAll(store.read(stored.getDigest())));
+
+    Resource decoded = store.asResource(stored.getDigest());
+    assertEquals(TEXT.length, decoded.contentLength());
+    assertArrayEquals(TEXT, readAll(decoded.getInputStream()));
+
+    Resource encoded = store.asEncodedResource(stored.getDigest(), ContentCodec.GZIP).get();
+    assertEquals(stored.getStoredSize(), encoded.contentLength());
+    assertArrayEquals(TEXT, readAll(ContentCodec.GZIP.decode(encoded.getInputStream())));
+  }
+
+  @Test
+  void keepsIncompressibleContentAsIs() throws IOException {
+    byte[] random = new byte[64 * 1024];
+    new Random(7).nextBytes(random);
+    FileSystemContentStore store = store();
+
+    StoredContent stored = store.put(new ByteArrayResource(random), ContentCodec.GZIP);
+
+    assertEquals(ContentCodec.IDENTITY, stored.getCodec());
+    assertEquals(random.length, stored.getStoredSize());
+    assertFalse(store.asEncodedResource(stored.getDigest(), ContentCodec.GZIP).isPresent());
+    assertArrayEquals(random, readAll(store.read(stored.getDigest())));
+  }
+
+  @Test
+  void deduplicatesAcrossCodecs() throws IOException {
+    FileSystemContentStore store = store();
+    StoredContent first = store.put(new ByteArrayResource(TEXT), ContentCodec.IDENTITY);
+    StoredContent second = store.put(new ByteArrayResource(TEXT), ContentCodec.GZIP);
+
+    assertEquals(first.getDigest(), second.getDigest());
+    assertFalse(second.isCreated());
+    assertEquals(ContentCodec.IDENTITY, second.getCodec());
+  }
+
+  @Test
+  void reencodesStoredContent() throws IOException {
+    FileSystemContentStore store = store();
+    StoredContent plain = store.put(new ByteArrayResource(TEXT), ContentCodec.IDENTITY);
+
+    StoredContent reencoded = store.reencode(plain.getDigest(), ContentCodec.GZIP);
+
+    assertTrue(reencoded.isCreated());
+    assertEquals(ContentCodec.GZIP, reencoded.getCodec());
+    assertFalse(store.asEncodedResource(plain.getDigest(), ContentCodec.IDENTITY).isPresent());
+    assertArrayEquals(TEXT, readAll(store.read(plain.getDigest())));
+    assertFalse(store.reencode(plain.getDigest(), ContentCodec.GZIP).isCreated());
+
+    store.delete(plain.getDigest());
+    assertFalse(store.contains(plain.getDigest()));
+  }
+
+  @Test
+  void decodesStoredContentBackToIdentity() throws IOException {
+    FileSystemContentStore store = store();
+    StoredContent encoded = store.put(new ByteArrayResource(TEXT), ContentCodec.GZIP);
+
+    StoredContent decoded = store.reencode(encoded.getDigest(), ContentCodec.IDENTITY);
+
+    assertTrue(decoded.isCreated());
+    assertEquals(ContentCodec.IDENTITY, decoded.getCodec());
+    assertEquals(TEXT.length, decoded.getStoredSize());
+    assertFalse(store.asEncodedResource(encoded.getDigest(), ContentCodec.GZIP).isPresent());
+    assertTrue(store.asResource(encoded.getDigest()) instanceof FileSystemResource);
+  }
+
+  @Test
+  void keepsContentReusedSinceTheCutoff() throws IOException {
+    FileSystemContentStore store = store();
+    StoredContent stored = store.put(new ByteArrayResource(TEXT), ContentCodec.GZIP);
+
+    assertFalse(store.deleteIfUnusedSince(stored.getDigest(), Instant.now().minusSeconds(60)));
+    assertTrue(store.contains(stored.getDigest()));
+
+    assertTrue(store.deleteIfUnusedSince(stored.getDigest(), Instant.now().plusSeconds(60)));
+    assertFalse(store.contains(stored.getDigest()));
+  }
+
+  @Test
+  void honoursAcceptEncoding() {
+    assertTrue(ContentCodec.GZIP.isAcceptedBy("gzip, deflate, br"));
+    assertTrue(ContentCodec.GZIP.isAcceptedBy("br;q=1.0, *;q=0.5"));
+    assertFalse(ContentCodec.GZIP.isAcceptedBy("br, gzip;q=0"));
+    assertFalse(ContentCodec.GZIP.isAcceptedBy("deflate"));
+    assertFalse(ContentCodec.GZIP.isAcceptedBy(null));
+    assertTrue(ContentCodec.IDENTITY.isAcceptedBy(null));
+  }
+}
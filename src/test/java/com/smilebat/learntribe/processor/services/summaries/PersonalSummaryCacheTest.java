@@ -0,0 +1,130 @@
+package com.smilebat.learntribe.processor.services.summaries;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link PersonalSummaryCache}, backed by a local stub generator.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+class PersonalSummaryCacheTest {
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void concurrentIdenticalPromptsShareOneGeneration() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    StubGenerator generator = new StubGenerator(release);
+    PersonalSummaryCache cache = newCache(generator);
+
+    List<CompletableFuture<List<String>>> futures = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      futures.add(cache.get("Java, Kafka", "Senior Java Developer"));
+    }
+    release.countDown();
+
+    for (CompletableFuture<List<String>> future : futures) {
+      assertEquals(3, future.get(5, TimeUnit.SECONDS).size());
+    }
+    assertEquals(1, generator.calls.get());
+  }
+
+  @Test
+  void equivalentPromptsAreServedFromCache() {
+    StubGenerator generator = new StubGenerator(new CountDownLatch(0));
+    PersonalSummaryCache cache = newCache(generator);
+
+    List<String> first = cache.getWithinTimeout("Java, Kafka", "Sr. Java Developer").join();
+    List<String> second =
+        cache.getWithinTimeout("kafka,JAVA,java", "senior java developer").join();
+
+    assertEquals(1, generator.calls.get());
+    assertEquals("Sr. Java Developer Java, Kafka 0", first.get(0));
+    assertEquals(first, second);
+  }
+
+  @Test
+  void abandonedGenerationsAreStartedAgain() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    StubGenerator generator = new StubGenerator(release);
+    PersonalSummaryCache cache = newCache(generator);
+
+    CompletableFuture<List<String>> stuck = cache.get("Java", "Developer");
+    assertTrue(cache.abandon("java", "developer", stuck));
+    CompletableFuture<List<String>> retried = cache.get("Java", "Developer");
+    release.countDown();
+
+    assertNotSame(stuck, retried);
+    assertEquals(3, retried.get(5, TimeUnit.SECONDS).size());
+    assertFalse(cache.abandon("Java", "Developer", retried));
+    stuck.get(5, TimeUnit.SECONDS);
+    assertEquals(2, generator.calls.get());
+  }
+
+  @Test
+  void slowGenerationsTimeOutWithoutFailingTheCachedOne() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    StubGenerator generator = new StubGenerator(release);
+    PersonalSummaryCache cache =
+        new PersonalSummaryCache(
+            generator, executor, 100, Duration.ofMinutes(1), 3, Duration.ofMillis(50));
+
+    assertEquals(List.of(), cache.getWithinTimeout("Java", "Developer").get(5, TimeUnit.SECONDS));
+    release.countDown();
+
+    assertEquals(3, cache.get("Java", "Developer").get(5, TimeUnit.SECONDS).size());
+    assertEquals(1, generator.calls.get());
+  }
+
+  private PersonalSummaryCache newCache(SummaryGenerator generator) {
+    return new PersonalSummaryCache(
+        generator, executor, 100, Duration.ofMinutes(1), 3, Duration.ofSeconds(5));
+  }
+
+  /** Local stand in for the OpenAI backed generator. */
+  private static final class StubGenerator implements SummaryGenerator {
+    private final AtomicInteger calls = new AtomicInteger();
+    private final CountDownLatch release;
+
+    StubGenerator(CountDownLatch release) {
+      this.release = release;
+    }
+
+    @Override
+    public List<String> generate(String skills, String role, int count) {
+      calls.incrementAndGet();
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      List<String> summaries = new ArrayList<>();
+      for (int i = 0; i < count; i++) {
+        summaries.add(role + " " + skills + " " + i);
+      }
+      return summaries;
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package com.smilebat.learntribe.processor.services.summaries;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.smilebat.learntribe.dataaccess.jpa.entity.ProfileSummary;
+import com.smilebat.learntribe.processor.dataaccess.ProfileSummaryIndexRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Tests for {@link RoleSummaryIndex}, backed by a stubbed repository.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+class RoleSummaryIndexTest {
+
+  private static final List<String> ROLES = List.of("Sr. Java Developer");
+
+  private final ProfileSummaryIndexRepository repository =
+      mock(ProfileSummaryIndexRepository.class);
+
+  private final RoleSummaryIndex index = new RoleSummaryIndex(repository);
+
+  @BeforeEach
+  void setUp() {
+    List<ProfileSummary> summaries = new ArrayList<>();
+    for (int i = 1; i <= 5; i++) {
+      summaries.add(summary(i, "Senior Java Developer", "Summary " + i));
+    }
+    when(repository.findAfter(anyLong(), any(Pageable.class))).thenReturn(List.of());
+    when(repository.findAfter(eq(0L), any(Pageable.class))).thenReturn(summaries);
+    index.refresh();
+  }
+
+  @Test
+  void pagesThroughTheSummariesOfARole() {
+    assertEquals(
+        Set.of("Summary 1", "Summary 2"), index.getSummaries(ROLES, 0, 2, Integer.MAX_VALUE));
+    assertEquals(Set.of("Summary 5"), index.getSummaries(ROLES, 2, 2, Integer.MAX_VALUE));
+  }
+
+  @Test
+  void pagesPastTheEndAreEmpty() {
+    assertTrue(index.getSummaries(ROLES, 3, 2, Integer.MAX_VALUE).isEmpty());
+  }
+
+  @Test
+  void overflowingPagesAreEmpty() {
+    assertTrue(index.getSummaries(ROLES, Integer.MAX_VALUE, 2, Integer.MAX_VALUE).isEmpty());
+    assertTrue(index.getSummaries(ROLES, 1 << 30, 4, Integer.MAX_VALUE).isEmpty());
+  }
+
+  private static ProfileSummary summary(long id, String role, String text) {
+    ProfileSummary summary = new ProfileSummary();
+    summary.setId(id);
+    summary.setRole(role);
+    summary.setSummary(text);
+    return summary;
+  }
+}
@@ -0,0 +1,140 @@
+package com.smilebat.learntribe.processor.util;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares {@link DateCodec} with the {@link SimpleDateFormat} parsing it replaced, and measures
+ * the date handling of {@link Commons} built on it.
+ *
+ * <p>The legacy format is confined to the benchmark thread, as it is not thread safe.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateCodecBenchmark {
+
+  private static final String[] DATES = {
+    "2019-06-01", "2020-01-15", "2020-02-29", "2021-11-30", "2022-07-04", "2023-03-21"
+  };
+
+  private final ZoneId zone = ZoneId.systemDefault();
+  private final DateCodec codec = new DateCodec(zone);
+  private final Commons commons = new Commons();
+  private final SimpleDateFormat legacyParser = new SimpleDateFormat(Commons.PATTERN_FORMAT);
+  private final DateTimeFormatter legacyFormatter =
+      DateTimeFormatter.ofPattern(Commons.PATTERN_FORMAT).withZone(zone);
+
+  private Instant[] instants;
+  private int next;
+
+  /** Parses the dates once, for the format benchmarks. */
+  @Setup
+  public void setUp() {
+    instants = new Instant[DATES.length];
+    for (int i = 0; i < DATES.length; i++) {
+      instants[i] = codec.parse(DATES[i]);
+    }
+  }
+
+  private int nextIndex() {
+    next = next + 1 == DATES.length ? 0 : next + 1;
+    return next;
+  }
+
+  /**
+   * Parses with the shared {@link SimpleDateFormat}.
+   *
+   * @return the {@link Instant}.
+   * @throws ParseException never.
+   */
+  @Benchmark
+  public Instant parseLegacy() throws ParseException {
+    return legacyParser.parse(DATES[nextIndex()]).toInstant();
+  }
+
+  /**
+   * Parses with the {@link DateCodec}.
+   *
+   * @return the {@link Instant}.
+   */
+  @Benchmark
+  public Instant parseCodec() {
+    return codec.parse(DATES[nextIndex()]);
+  }
+
+  /**
+   * Formats with a {@link DateTimeFormatter}.
+   *
+   * @return the date.
+   */
+  @Benchmark
+  public String formatLegacy() {
+    return legacyFormatter.format(instants[nextIndex()]);
+  }
+
+  /**
+   * Formats with the memoizing {@link DateCodec}.
+   *
+   * @return the date.
+   */
+  @Benchmark
+  public String formatCodec() {
+    return codec.format(instants[nextIndex()]);
+  }
+
+  /**
+   * Parses with {@link Commons#toInstant(String)}.
+   *
+   * @return the {@link Instant}.
+   */
+  @Benchmark
+  public Instant commonsToInstant() {
+    return commons.toInstant(DATES[nextIndex()]);
+  }
+
+  /**
+   * Formats with {@link Commons#formatInstant}.
+   *
+   * @return the date.
+   */
+  @Benchmark
+  public String commonsFormatInstant() {
+    return commons.formatInstant.apply(instants[nextIndex()]);
+  }
+
+  /**
+   * Runs the benchmark from the IDE.
+   *
+   * @param args unused.
+   * @throws RunnerException if the benchmark fails.
+   */
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(DateCodecBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+}
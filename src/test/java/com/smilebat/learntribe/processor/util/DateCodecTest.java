@@ -0,0 +1,81 @@
+package com.smilebat.learntribe.processor.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies {@link DateCodec} against {@link SimpleDateFormat}.
+ *
+ * <p>Copyright &copy; 2023 Smile .Bat
+ *
+ * @author Pai,Sai Nandan
+ */
+class DateCodecTest {
+
+  private static final ZoneId ZONE = ZoneId.of("Asia/Kolkata");
+
+  private final DateCodec codec = new DateCodec(ZONE);
+
+  @Test
+  void parsesAndFormatsLikeSimpleDateFormat() throws Exception {
+    SimpleDateFormat legacy = new SimpleDateFormat(Commons.PATTERN_FORMAT);
+    legacy.setTimeZone(TimeZone.getTimeZone(ZONE));
+    LocalDate end = LocalDate.of(2040, 1, 1);
+    for (LocalDate date = LocalDate.of(1970, 1, 1); date.isBefore(end); date = date.plusDays(1)) {
+      String text = date.toString();
+      Instant instant = codec.parse(text);
+      assertEquals(legacy.parse(text).toInstant(), instant, text);
+      assertEquals(text, codec.format(instant));
+      assertEquals(text, codec.format(instant.plusSeconds(86_399)));
+    }
+  }
+
+  @Test
+  void fallsBackToLenientParsing() throws Exception {
+    SimpleDateFormat legacy = new SimpleDateFormat(Commons.PATTERN_FORMAT);
+    legacy.setTimeZone(TimeZone.getTimeZone(ZONE));
+    for (String text : List.of("2020-1-5", "2020-13-01", "2020-02-30", "2021-06-15T10:00")) {
+      assertEquals(legacy.parse(text).toInstant(), codec.parse(text), text);
+    }
+    assertThrows(DateTimeException.class, () -> codec.parse("June 2020"));
+  }
+
+  @Test
+  void isThreadSafe() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<?>> results = new ArrayList<>();
+      for (int t = 0; t < 8; t++) {
+        final int offset = t;
+        results.add(
+            executor.submit(
+                () -> {
+                  for (int i = 0; i < 20_000; i++) {
+                    LocalDate date = LocalDate.of(2000, 1, 1).plusDays((i * 7L + offset) % 9000);
+                    String text = date.toString();
+                    assertEquals(text, codec.format(codec.parse(text)));
+                  }
+                }));
+      }
+      for (Future<?> result : results) {
+        result.get(1, TimeUnit.MINUTES);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}